@@ -0,0 +1,110 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.infrastructure.security.FastJwtVerifier;
+import com.pragma.powerup.infrastructure.security.JwtKeyRing;
+import com.pragma.powerup.infrastructure.security.JwtPrincipal;
+import com.pragma.powerup.infrastructure.security.JwtValidator;
+import com.pragma.powerup.infrastructure.security.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ *
+ * <ul>
+ *   <li>{@code legacyFourParses}: what {@code JwtAuthenticationFilter} did before (isValid +
+ *       extractUserId + extractEmail + extractRole, each one a full verification).
+ *   <li>{@code verifyOnceUncached}: one verification per request, cache disabled.
+ *   <li>{@code verifyOnceCached}: one verification per token lifetime, then cache hits.
+ *   <li>{@code fastPathUncached}: {@link FastJwtVerifier} (raw-bytes HMAC + streaming claim scan),
+ *       cache disabled, against {@code verifyOnceUncached} which goes through jjwt + Jackson.
+ * </ul>
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=JwtValidationBenchmark}. The {@code gc} profiler
+ * is enabled so the report includes {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+  private static final String SECRET =
+      "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+  private JwtValidator uncachedValidator;
+  private JwtValidator cachedValidator;
+  private JwtValidator fastPathValidator;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, "bench");
+    FastJwtVerifier fastPathOff = new FastJwtVerifier(keyRing, false);
+    uncachedValidator = new JwtValidator(keyRing, uncachedTokenCache(), fastPathOff);
+    cachedValidator =
+        new JwtValidator(
+            keyRing,
+            new VerifiedTokenCache(true, 10_000, new SimpleMeterRegistry()),
+            fastPathOff);
+    fastPathValidator =
+        new JwtValidator(keyRing, uncachedTokenCache(), new FastJwtVerifier(keyRing, true));
+
+    long now = System.currentTimeMillis();
+    token =
+        Jwts.builder()
+            .header()
+            .keyId("bench")
+            .and()
+            .claim("userId", 42L)
+            .claim("role", "CUSTOMER")
+            .claim("email", "customer@bench.com")
+            .subject("customer@bench.com")
+            .issuedAt(new Date(now))
+            .expiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+            .signWith(keyRing.signingKey())
+            .compact();
+  }
+
+  @Benchmark
+  public void legacyFourParses(Blackhole bh) {
+    bh.consume(uncachedValidator.validateAndExtractClaims(token));
+    bh.consume(uncachedValidator.validateAndExtractClaims(token).get("userId"));
+    bh.consume(uncachedValidator.validateAndExtractClaims(token).getSubject());
+    bh.consume(uncachedValidator.validateAndExtractClaims(token).get("role", String.class));
+  }
+
+  @Benchmark
+  public JwtPrincipal verifyOnceUncached() {
+    return uncachedValidator.verify(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal verifyOnceCached() {
+    return cachedValidator.verify(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal fastPathUncached() {
+    return fastPathValidator.verify(token);
+  }
+
+  private static VerifiedTokenCache uncachedTokenCache() {
+    return new VerifiedTokenCache(false, 0, new SimpleMeterRegistry());
+  }
+}
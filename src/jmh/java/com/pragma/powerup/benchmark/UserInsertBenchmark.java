@@ -0,0 +1,177 @@
+package com.pragma.powerup.benchmark;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Inserts per second into a {@code users}-shaped table, replaying the JDBC calls Hibernate makes
+ * for each id strategy with {@code hibernate.jdbc.batch_size = batchSize}.
+ *
+ * <ul>
+ *   <li>{@code identity}: before. Hibernate needs the generated key right after each INSERT, so
+ *       every row is its own round trip and {@code batch_size} is ignored.
+ *   <li>{@code sequencePooledLo}: after. One {@code nextval} per 50 ids, rows sent with {@code
+ *       addBatch}/{@code executeBatch} every {@code batchSize} rows.
+ * </ul>
+ *
+ * <p>Scores are rows per second. In-memory H2 has no network, so it understates the gap; point
+ * it at Postgres for representative numbers: {@code ./gradlew jmh -Pjmh.includes=UserInsert
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/powerup?reWriteBatchedInserts=true
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=...}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UserInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserInsertBenchmark {
+
+  static final int ROWS = 500;
+  private static final int ALLOCATION_SIZE = 50;
+  private static final String COLUMNS =
+      "first_name, last_name, document, phone, birth_date, email, password, role, active";
+  private static final Date BIRTH_DATE = Date.valueOf(LocalDate.of(1990, 1, 1));
+
+  @Param({"1", "50"})
+  public int batchSize;
+
+  private Connection connection;
+  private long counter;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            System.getProperty(
+                "bench.jdbc.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+            System.getProperty("bench.jdbc.user", "sa"),
+            System.getProperty("bench.jdbc.password", ""));
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE bench_users_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY"
+              + " PRIMARY KEY, "
+              + columnDefinitions()
+              + ")");
+      statement.execute("CREATE SEQUENCE bench_users_seq START WITH 1 INCREMENT BY 50");
+      statement.execute(
+          "CREATE TABLE bench_users_seq (id BIGINT PRIMARY KEY, " + columnDefinitions() + ")");
+    }
+    connection.setAutoCommit(false);
+  }
+
+  @Setup(Level.Iteration)
+  public void truncate() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("TRUNCATE TABLE bench_users_identity");
+      statement.execute("TRUNCATE TABLE bench_users_seq");
+    }
+    connection.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.setAutoCommit(true);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE bench_users_identity");
+      statement.execute("DROP TABLE bench_users_seq");
+      statement.execute("DROP SEQUENCE bench_users_seq");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void identity(Blackhole bh) throws SQLException {
+    try (PreparedStatement insert =
+        connection.prepareStatement(
+            "INSERT INTO bench_users_identity (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            Statement.RETURN_GENERATED_KEYS)) {
+      for (int i = 0; i < ROWS; i++) {
+        bind(insert, 1, ++counter);
+        insert.executeUpdate();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+          keys.next();
+          bh.consume(keys.getLong(1));
+        }
+      }
+    }
+    connection.commit();
+  }
+
+  @Benchmark
+  public void sequencePooledLo() throws SQLException {
+    try (PreparedStatement nextval =
+            connection.prepareStatement("SELECT nextval('bench_users_seq')");
+        PreparedStatement insert =
+            connection.prepareStatement(
+                "INSERT INTO bench_users_seq (id, "
+                    + COLUMNS
+                    + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+      long next = 0;
+      long blockEnd = 0;
+      int pending = 0;
+      for (int i = 0; i < ROWS; i++) {
+        if (next == blockEnd) {
+          try (ResultSet block = nextval.executeQuery()) {
+            block.next();
+            next = block.getLong(1);
+            blockEnd = next + ALLOCATION_SIZE;
+          }
+        }
+        insert.setLong(1, next++);
+        bind(insert, 2, ++counter);
+        insert.addBatch();
+        if (++pending == batchSize) {
+          insert.executeBatch();
+          pending = 0;
+        }
+      }
+      if (pending > 0) {
+        insert.executeBatch();
+      }
+    }
+    connection.commit();
+  }
+
+  private static String columnDefinitions() {
+    return "first_name VARCHAR(50) NOT NULL, last_name VARCHAR(50) NOT NULL,"
+        + " document VARCHAR(20) NOT NULL, phone VARCHAR(13) NOT NULL, birth_date DATE NOT NULL,"
+        + " email VARCHAR(100) NOT NULL, password VARCHAR(255) NOT NULL,"
+        + " role VARCHAR(20) NOT NULL, active BOOLEAN NOT NULL";
+  }
+
+  private static void bind(PreparedStatement insert, int first, long n) throws SQLException {
+    insert.setString(first, "Bench");
+    insert.setString(first + 1, "User");
+    insert.setString(first + 2, Long.toString(n));
+    insert.setString(first + 3, "+573000000000");
+    insert.setDate(first + 4, BIRTH_DATE);
+    insert.setString(first + 5, "user" + n + "@bench.com");
+    insert.setString(first + 6, "$2a$10$abcdefghijklmnopqrstuuK3x1nH6cJq4B1dM2d7y6D0S5Q8wH9Ge");
+    insert.setString(first + 7, "CUSTOMER");
+    insert.setBoolean(first + 8, true);
+  }
+}
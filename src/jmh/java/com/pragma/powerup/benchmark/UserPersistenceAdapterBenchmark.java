@@ -0,0 +1,211 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapperImpl;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.pragma.powerup.infrastructure.out.r2dbc.BlockingUserPersistenceAdapter;
+import com.pragma.powerup.infrastructure.out.r2dbc.UserR2dbcAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * {@code findById} and {@code findCredentialsByEmail} through the JPA adapter and through the
+ * R2DBC adapter, with {@value #THREADS} concurrent callers and the same number of connections on
+ * each side.
+ *
+ * <ul>
+ *   <li>{@code jpa*}: before. Each caller holds its thread and, while the query runs, a JDBC
+ *       connection.
+ *   <li>{@code r2dbc*}: after, behind the blocking bridge the use cases see. Same threading, but
+ *       the connection goes back to the pool as soon as the row arrives.
+ *   <li>{@code r2dbcInFlight}: after, used natively. One thread keeps {@value #THREADS} lookups
+ *       in flight, the concurrency the other variants need {@value #THREADS} threads for.
+ * </ul>
+ *
+ * <p>Throughput is lookups per second; SampleTime reports the p99 per lookup. R2DBC only has a
+ * PostgreSQL driver here, so this benchmark needs a database; it applies the Flyway migrations
+ * and seeds {@value #USERS} users: {@code ./gradlew jmh -Pjmh.includes=UserPersistenceAdapter
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/powerup
+ * -Dbench.r2dbc.url=r2dbc:postgresql://localhost:5432/powerup -Dbench.jdbc.user=...
+ * -Dbench.jdbc.password=... -Dbench.pool.size=20}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserPersistenceAdapterBenchmark {
+
+  static final int THREADS = 64;
+  private static final int USERS = 10_000;
+  private static final String EMAIL_PREFIX = "bench-adapter-";
+
+  private HikariDataSource dataSource;
+  private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+  private UserR2dbcAdapter r2dbcAdapter;
+  private IUserPersistencePort jpa;
+  private IUserPersistencePort r2dbc;
+  private long[] ids;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    String user = System.getProperty("bench.jdbc.user", "postgres");
+    String password = System.getProperty("bench.jdbc.password", "postgres");
+    int poolSize = Integer.getInteger("bench.pool.size", 20);
+
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(
+        System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/powerup"));
+    dataSource.setUsername(user);
+    dataSource.setPassword(password);
+    dataSource.setMaximumPoolSize(poolSize);
+    Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load().migrate();
+    ids = seed();
+
+    entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+    entityManagerFactory.setDataSource(dataSource);
+    entityManagerFactory.setPackagesToScan("com.pragma.powerup.infrastructure.out.jpa.entity");
+    entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+    entityManagerFactory.afterPropertiesSet();
+    EntityManagerFactory emf = entityManagerFactory.getObject();
+    IUserRepository repository =
+        new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(emf))
+            .getRepository(IUserRepository.class);
+    jpa = new UserJpaAdapter(repository, new IUserEntityMapperImpl());
+
+    ConnectionFactoryOptions options =
+        ConnectionFactoryOptions.parse(
+                System.getProperty("bench.r2dbc.url", "r2dbc:postgresql://localhost:5432/powerup"))
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, user)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+    r2dbcAdapter =
+        new UserR2dbcAdapter(
+            new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                    .maxSize(poolSize)
+                    .build()));
+    r2dbc = new BlockingUserPersistenceAdapter(r2dbcAdapter);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    r2dbcAdapter.close();
+    entityManagerFactory.destroy();
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement delete =
+            connection.prepareStatement("DELETE FROM users WHERE email LIKE ?")) {
+      delete.setString(1, EMAIL_PREFIX + "%");
+      delete.executeUpdate();
+    }
+    dataSource.close();
+  }
+
+  @Benchmark
+  @Threads(THREADS)
+  public UserModel jpaFindById() {
+    return jpa.findById(randomId());
+  }
+
+  @Benchmark
+  @Threads(THREADS)
+  public UserModel r2dbcFindById() {
+    return r2dbc.findById(randomId());
+  }
+
+  @Benchmark
+  @Threads(THREADS)
+  public UserModel jpaFindCredentialsByEmail() {
+    return jpa.findCredentialsByEmail(randomEmail());
+  }
+
+  @Benchmark
+  @Threads(THREADS)
+  public UserModel r2dbcFindCredentialsByEmail() {
+    return r2dbc.findCredentialsByEmail(randomEmail());
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(THREADS)
+  public Object r2dbcInFlight() {
+    CompletableFuture<?>[] lookups = new CompletableFuture<?>[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      lookups[i] = r2dbcAdapter.findById(randomId()).toCompletableFuture();
+    }
+    return CompletableFuture.allOf(lookups).join();
+  }
+
+  private long randomId() {
+    return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+  }
+
+  private static String randomEmail() {
+    return EMAIL_PREFIX + ThreadLocalRandom.current().nextInt(USERS) + "@bench.com";
+  }
+
+  /** Inserts the bench users once and returns their ids. */
+  private long[] seed() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate(
+          "INSERT INTO users (first_name, last_name, document, phone, birth_date, email, password,"
+              + " role, active) SELECT 'Bench', 'User', 'bench' || n, '+573000000000',"
+              + " DATE '1990-01-01', '"
+              + EMAIL_PREFIX
+              + "' || n || '@bench.com',"
+              + " '$2a$10$abcdefghijklmnopqrstuuK3x1nH6cJq4B1dM2d7y6D0S5Q8wH9Ge', 'CUSTOMER', true"
+              + " FROM generate_series(0, "
+              + (USERS - 1)
+              + ") AS n ON CONFLICT DO NOTHING");
+      try (ResultSet rows =
+          statement.executeQuery(
+              "SELECT id FROM users WHERE email LIKE '" + EMAIL_PREFIX + "%' ORDER BY id")) {
+        long[] seeded = new long[USERS];
+        int count = 0;
+        while (rows.next() && count < USERS) {
+          seeded[count++] = rows.getLong(1);
+        }
+        return Arrays.copyOf(seeded, count);
+      }
+    }
+  }
+}
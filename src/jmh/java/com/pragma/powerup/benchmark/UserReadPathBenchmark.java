@@ -0,0 +1,145 @@
+package com.pragma.powerup.benchmark;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.jdbc.UserJdbcAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapperImpl;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Latency per call of the hot user reads through the JPA adapter (before: Hibernate session,
+ * entity, then MapStruct to {@link UserModel}) and the JDBC adapter (after: {@code JdbcClient}
+ * mapping the {@code ResultSet} straight to {@link UserModel}). Same pool, same rows.
+ *
+ * <p>The build always runs the GC profiler: {@code gc.alloc.rate.norm} is the bytes allocated
+ * per call. In-memory H2 isolates the mapping overhead; point it at Postgres for end-to-end
+ * numbers: {@code ./gradlew jmh -Pjmh.includes=UserReadPath
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/powerup -Dbench.jdbc.user=...
+ * -Dbench.jdbc.password=...}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserReadPathBenchmark {
+
+  private static final int USERS = 1_000;
+  private static final String EMAIL_PREFIX = "bench-read-";
+
+  @Param({"jpa", "jdbc"})
+  public String adapter;
+
+  private HikariDataSource dataSource;
+  private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+  private IUserPersistencePort persistence;
+  private long[] ids;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(
+        System.getProperty(
+            "bench.jdbc.url",
+            "jdbc:h2:mem:read-path;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+    dataSource.setUsername(System.getProperty("bench.jdbc.user", "sa"));
+    dataSource.setPassword(System.getProperty("bench.jdbc.password", ""));
+
+    // En H2 Hibernate crea el esquema; contra Postgres ya lo ha creado Flyway
+    entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+    entityManagerFactory.setDataSource(dataSource);
+    entityManagerFactory.setPackagesToScan("com.pragma.powerup.infrastructure.out.jpa.entity");
+    entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "update"));
+    entityManagerFactory.afterPropertiesSet();
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new JpaTransactionManager(entityManagerFactory.getObject()));
+
+    UserJdbcAdapter jdbc = new UserJdbcAdapter(new JdbcTemplate(dataSource), transactionTemplate);
+    ids = seed(jdbc);
+    if ("jdbc".equals(adapter)) {
+      persistence = jdbc;
+    } else {
+      IUserRepository repository =
+          new JpaRepositoryFactory(
+                  SharedEntityManagerCreator.createSharedEntityManager(
+                      entityManagerFactory.getObject()))
+              .getRepository(IUserRepository.class);
+      persistence = new UserJpaAdapter(repository, new IUserEntityMapperImpl());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    new JdbcTemplate(dataSource)
+        .update("DELETE FROM users WHERE email LIKE ?", EMAIL_PREFIX + "%");
+    entityManagerFactory.destroy();
+    dataSource.close();
+  }
+
+  @Benchmark
+  public UserModel findById() {
+    return persistence.findById(ids[ThreadLocalRandom.current().nextInt(USERS)]);
+  }
+
+  @Benchmark
+  public UserModel findByEmail() {
+    return persistence.findByEmail(randomEmail());
+  }
+
+  @Benchmark
+  public boolean existsByEmail() {
+    return persistence.existsByEmail(randomEmail());
+  }
+
+  private static String randomEmail() {
+    return EMAIL_PREFIX + ThreadLocalRandom.current().nextInt(USERS) + "@bench.com";
+  }
+
+  private static long[] seed(UserJdbcAdapter jdbc) {
+    List<UserModel> users = new ArrayList<>(USERS);
+    for (int i = 0; i < USERS; i++) {
+      UserModel user = new UserModel();
+      user.setFirstName("Bench");
+      user.setLastName("User");
+      user.setDocument("9" + i);
+      user.setPhone("+573000000000");
+      user.setBirthDate(LocalDate.of(1990, 1, 1));
+      user.setEmail(EMAIL_PREFIX + i + "@bench.com");
+      user.setPassword("$2a$10$abcdefghijklmnopqrstuuK3x1nH6cJq4B1dM2d7y6D0S5Q8wH9Ge");
+      user.setRole(RoleEnum.CUSTOMER);
+      users.add(user);
+    }
+    return jdbc.saveAll(users).stream().mapToLong(UserModel::getId).toArray();
+  }
+}
@@ -0,0 +1,30 @@
+package com.pragma.powerup.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeCheckRequestDto {
+
+  @NotEmpty
+  @Size(max = 5000)
+  private List<@NotNull @Valid Pair> pairs;
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Pair {
+    @NotNull private Long userId;
+    @NotNull private Long restaurantId;
+  }
+}
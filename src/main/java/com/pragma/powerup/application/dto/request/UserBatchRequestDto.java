@@ -0,0 +1,19 @@
+package com.pragma.powerup.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserBatchRequestDto {
+
+  @NotEmpty
+  @Size(max = 5000)
+  private List<@NotNull Long> ids;
+}
@@ -0,0 +1,9 @@
+package com.pragma.powerup.application.dto.request;
+
+/** Body formats produced by the user directory export. */
+public enum UserExportFormat {
+  /** One JSON object per line. */
+  NDJSON,
+  /** Header row with the column names, then one user per row. */
+  CSV
+}
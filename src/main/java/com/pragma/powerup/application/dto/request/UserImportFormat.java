@@ -0,0 +1,9 @@
+package com.pragma.powerup.application.dto.request;
+
+/** Body formats accepted by the bulk user import. */
+public enum UserImportFormat {
+  /** One JSON object per line. */
+  NDJSON,
+  /** Header row with the column names, then one user per row. */
+  CSV
+}
@@ -0,0 +1,25 @@
+package com.pragma.powerup.application.dto.request;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** One user of a bulk import. The role is part of each line: OWNER, EMPLOYEE or CUSTOMER. */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserImportLineDto {
+  /** Width of the first_name and last_name columns. */
+  public static final int MAX_NAME_LENGTH = 50;
+
+  private String firstName;
+  private String lastName;
+  private String document;
+  private String phone;
+  private LocalDate birthDate;
+  private String email;
+  private String password;
+  private String role;
+  private Long restaurantId;
+}
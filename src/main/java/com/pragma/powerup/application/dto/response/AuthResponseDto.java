@@ -16,4 +16,5 @@ public class AuthResponseDto {
   private Long userId;
   private String role;
   private Long expiresIn;
+  private String refreshToken;
 }
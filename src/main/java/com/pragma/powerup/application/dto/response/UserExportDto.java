@@ -0,0 +1,34 @@
+package com.pragma.powerup.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+/** One user of the directory export. Never carries the password hash. */
+@Getter
+@Setter
+@JsonPropertyOrder({
+  "id",
+  "firstName",
+  "lastName",
+  "document",
+  "phone",
+  "birthDate",
+  "email",
+  "role",
+  "active",
+  "restaurantId"
+})
+public class UserExportDto {
+  private Long id;
+  private String firstName;
+  private String lastName;
+  private String document;
+  private String phone;
+  private LocalDate birthDate;
+  private String email;
+  private String role;
+  private Boolean active;
+  private Long restaurantId;
+}
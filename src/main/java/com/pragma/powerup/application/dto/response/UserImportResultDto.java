@@ -0,0 +1,19 @@
+package com.pragma.powerup.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResultDto {
+  private long line;
+  private String status; // CREATED | REJECTED
+  private Long id;
+  private String message;
+}
@@ -0,0 +1,17 @@
+package com.pragma.powerup.application.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** One page of users. {@code nextCursor} is {@code null} on the last page. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponseDto {
+  private List<UserResponseDto> users;
+  private String nextCursor;
+}
@@ -1,8 +1,16 @@
 package com.pragma.powerup.application.handler;
 
 import com.pragma.powerup.application.dto.request.LoginRequestDto;
+import com.pragma.powerup.application.dto.request.RefreshTokenRequestDto;
 import com.pragma.powerup.application.dto.response.AuthResponseDto;
+import java.time.Instant;
 
 public interface IAuthHandler {
   AuthResponseDto login(LoginRequestDto request);
+
+  AuthResponseDto refresh(RefreshTokenRequestDto request);
+
+  void logout(String tokenId, Long userId, Instant expiresAt, String refreshToken);
+
+  void revokeAllTokens(Long userId);
 }
@@ -0,0 +1,10 @@
+package com.pragma.powerup.application.handler;
+
+import com.pragma.powerup.application.dto.response.UserExportDto;
+import java.util.function.Consumer;
+
+public interface IUserExportHandler {
+
+  /** Hands every user to {@code sink} while the table is read; nothing is buffered. */
+  void exportUsers(Consumer<UserExportDto> sink);
+}
@@ -1,8 +1,12 @@
 package com.pragma.powerup.application.handler;
 
+import com.pragma.powerup.application.dto.request.EmployeeCheckRequestDto;
 import com.pragma.powerup.application.dto.request.UserEmployeeRequestDto;
 import com.pragma.powerup.application.dto.request.UserRequestDto;
+import com.pragma.powerup.application.dto.response.UserPageResponseDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IUserHandler {
   UserResponseDto createOwner(UserRequestDto request);
@@ -13,5 +17,22 @@ public interface IUserHandler {
 
   UserResponseDto getUserById(Long id);
 
+  /**
+   * Maps each found user and hands it to {@code sink} while the query is still being read.
+   *
+   * @return the requested ids that do not exist
+   */
+  List<Long> getUsersByIds(List<Long> ids, Consumer<UserResponseDto> sink);
+
   boolean isEmployeeOfRestaurant(Long userId, Long restaurantId);
+
+  /** One answer per pair of the request, in the same order. */
+  List<Boolean> areEmployeesOfRestaurants(EmployeeCheckRequestDto request);
+
+  /**
+   * Users matching the optional filters in id order. Pass the previous page's {@code nextCursor}
+   * as {@code cursor} to continue; {@code null} starts from the beginning.
+   */
+  UserPageResponseDto listUsers(
+      String role, Long restaurantId, Boolean active, String cursor, int size);
 }
@@ -0,0 +1,17 @@
+package com.pragma.powerup.application.handler;
+
+import com.pragma.powerup.application.dto.request.UserImportFormat;
+import com.pragma.powerup.application.dto.response.UserImportResultDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface IUserImportHandler {
+
+  /**
+   * Reads users from {@code body} line by line, without buffering it, and reports one result per
+   * line to {@code sink} as each chunk is stored.
+   */
+  void importUsers(InputStream body, UserImportFormat format, Consumer<UserImportResultDto> sink)
+      throws IOException;
+}
@@ -1,11 +1,17 @@
 package com.pragma.powerup.application.handler.impl;
 
 import com.pragma.powerup.application.dto.request.LoginRequestDto;
+import com.pragma.powerup.application.dto.request.RefreshTokenRequestDto;
 import com.pragma.powerup.application.dto.response.AuthResponseDto;
 import com.pragma.powerup.application.handler.IAuthHandler;
 import com.pragma.powerup.domain.api.IAuthServicePort;
+import com.pragma.powerup.domain.api.IRefreshTokenServicePort;
+import com.pragma.powerup.domain.api.ITokenRevocationServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.AuthSessionModel;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IJwtProviderPort;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,17 +23,48 @@ public class AuthHandler implements IAuthHandler {
 
   private final IAuthServicePort authServicePort;
   private final IJwtProviderPort jwtProviderPort;
+  private final ITokenRevocationServicePort tokenRevocationServicePort;
+  private final IRefreshTokenServicePort refreshTokenServicePort;
 
   @Override
   public AuthResponseDto login(LoginRequestDto request) {
     UserModel user = authServicePort.authenticate(request.getEmail(), request.getPassword());
     String token = jwtProviderPort.generateToken(user);
+    String refreshToken = refreshTokenServicePort.issue(user.getId());
 
+    return buildResponse(user, token, refreshToken);
+  }
+
+  // Sin rollback en DomainException: la revocación de la familia ante un token reutilizado
+  // tiene que persistir aunque la petición falle
+  @Override
+  @Transactional(noRollbackFor = DomainException.class)
+  public AuthResponseDto refresh(RefreshTokenRequestDto request) {
+    AuthSessionModel session = refreshTokenServicePort.refresh(request.getRefreshToken());
+    String token = jwtProviderPort.generateToken(session.getUser());
+
+    return buildResponse(session.getUser(), token, session.getRefreshToken());
+  }
+
+  @Override
+  public void logout(String tokenId, Long userId, Instant expiresAt, String refreshToken) {
+    tokenRevocationServicePort.revokeToken(tokenId, userId, expiresAt);
+    refreshTokenServicePort.revoke(refreshToken, userId);
+  }
+
+  @Override
+  public void revokeAllTokens(Long userId) {
+    tokenRevocationServicePort.revokeAllTokens(userId);
+    refreshTokenServicePort.revokeAll(userId);
+  }
+
+  private AuthResponseDto buildResponse(UserModel user, String token, String refreshToken) {
     return AuthResponseDto.builder()
         .token(token)
         .userId(user.getId())
         .role(user.getRole() != null ? user.getRole().name() : null)
         .expiresIn(jwtProviderPort.getExpirationMs())
+        .refreshToken(refreshToken)
         .build();
   }
 }
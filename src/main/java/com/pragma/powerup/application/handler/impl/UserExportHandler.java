@@ -0,0 +1,28 @@
+package com.pragma.powerup.application.handler.impl;
+
+import com.pragma.powerup.application.dto.response.UserExportDto;
+import com.pragma.powerup.application.handler.IUserExportHandler;
+import com.pragma.powerup.application.mapper.IUserResponseMapper;
+import com.pragma.powerup.domain.api.IUserServicePort;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The read-only transaction keeps the database cursor open for the whole export, so rows are
+ * fetched in batches instead of all at once.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserExportHandler implements IUserExportHandler {
+
+  private final IUserServicePort userServicePort;
+  private final IUserResponseMapper userResponseMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportUsers(Consumer<UserExportDto> sink) {
+    userServicePort.exportUsers(user -> sink.accept(userResponseMapper.toExport(user)));
+  }
+}
@@ -1,12 +1,21 @@
 package com.pragma.powerup.application.handler.impl;
 
+import com.pragma.powerup.application.dto.request.EmployeeCheckRequestDto;
 import com.pragma.powerup.application.dto.request.UserEmployeeRequestDto;
 import com.pragma.powerup.application.dto.request.UserRequestDto;
+import com.pragma.powerup.application.dto.response.UserPageResponseDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
 import com.pragma.powerup.application.handler.IUserHandler;
 import com.pragma.powerup.application.mapper.IUserRequestMapper;
 import com.pragma.powerup.application.mapper.IUserResponseMapper;
 import com.pragma.powerup.domain.api.IUserServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.EmployeeAssignmentModel;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,13 +51,54 @@ public class UserHandler implements IUserHandler {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public UserResponseDto getUserById(Long id) {
     var user = userServicePort.getUserById(id);
     return userResponseMapper.toResponse(user);
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public List<Long> getUsersByIds(List<Long> ids, Consumer<UserResponseDto> sink) {
+    return userServicePort.getUsersByIds(
+        ids, user -> sink.accept(userResponseMapper.toResponse(user)));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public boolean isEmployeeOfRestaurant(Long userId, Long restaurantId) {
     return userServicePort.isEmployeeOfRestaurant(userId, restaurantId);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Boolean> areEmployeesOfRestaurants(EmployeeCheckRequestDto request) {
+    List<EmployeeAssignmentModel> assignments =
+        request.getPairs().stream()
+            .map(pair -> new EmployeeAssignmentModel(pair.getUserId(), pair.getRestaurantId()))
+            .toList();
+    return userServicePort.areEmployeesOfRestaurants(assignments);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public UserPageResponseDto listUsers(
+      String role, Long restaurantId, Boolean active, String cursor, int size) {
+    var filter = new UserFilterModel(parseRole(role), restaurantId, active);
+    var page = userServicePort.listUsers(filter, UserPageCursor.decode(cursor), size);
+    List<UserResponseDto> users =
+        page.getUsers().stream().map(userResponseMapper::toResponse).toList();
+    return new UserPageResponseDto(users, UserPageCursor.encode(page.getNextAfterId()));
+  }
+
+  private static RoleEnum parseRole(String role) {
+    if (role == null || role.isBlank()) {
+      return null;
+    }
+    try {
+      return RoleEnum.valueOf(role.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new DomainException("Unknown role: " + role);
+    }
+  }
 }
@@ -0,0 +1,51 @@
+package com.pragma.powerup.application.handler.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.request.UserImportFormat;
+import com.pragma.powerup.application.dto.response.UserImportResultDto;
+import com.pragma.powerup.application.handler.IUserImportHandler;
+import com.pragma.powerup.domain.api.IUserImportServicePort;
+import com.pragma.powerup.domain.model.UserImportResultModel;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Not transactional on purpose: every chunk is stored in its own transaction so a large import
+ * never holds one open for its whole duration.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportHandler implements IUserImportHandler {
+
+  private final IUserImportServicePort userImportServicePort;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void importUsers(
+      InputStream body, UserImportFormat format, Consumer<UserImportResultDto> sink)
+      throws IOException {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    try {
+      userImportServicePort.importUsers(
+          new UserImportReader(reader, format, objectMapper), result -> sink.accept(toDto(result)));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static UserImportResultDto toDto(UserImportResultModel result) {
+    return new UserImportResultDto(
+        result.getLine(),
+        result.isCreated() ? "CREATED" : "REJECTED",
+        result.getUserId(),
+        result.getMessage());
+  }
+}
@@ -0,0 +1,171 @@
+package com.pragma.powerup.application.handler.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.request.UserImportFormat;
+import com.pragma.powerup.application.dto.request.UserImportLineDto;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserImportRecordModel;
+import com.pragma.powerup.domain.model.UserModel;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily turns an import body into records, one line at a time. A line that cannot be parsed
+ * becomes an unparseable record instead of aborting the import. Line numbers are physical lines,
+ * so the CSV header is line 1.
+ */
+final class UserImportReader implements Iterator<UserImportRecordModel> {
+
+  private final BufferedReader reader;
+  private final UserImportFormat format;
+  private final ObjectMapper objectMapper;
+  private String[] header;
+  private long lineNumber;
+  private UserImportRecordModel next;
+
+  UserImportReader(BufferedReader reader, UserImportFormat format, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.format = format;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public UserImportRecordModel next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    UserImportRecordModel current = next;
+    next = null;
+    return current;
+  }
+
+  private UserImportRecordModel readNext() {
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        if (format == UserImportFormat.CSV && header == null) {
+          header = splitCsv(line);
+          continue;
+        }
+        return parse(line);
+      }
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private UserImportRecordModel parse(String line) {
+    try {
+      UserImportLineDto dto =
+          format == UserImportFormat.NDJSON
+              ? objectMapper.readValue(line, UserImportLineDto.class)
+              : fromCsv(line);
+      return UserImportRecordModel.parsed(lineNumber, toModel(dto));
+    } catch (JsonProcessingException e) {
+      return UserImportRecordModel.unparseable(lineNumber, "Malformed line");
+    } catch (IllegalArgumentException e) {
+      return UserImportRecordModel.unparseable(lineNumber, e.getMessage());
+    }
+  }
+
+  private UserImportLineDto fromCsv(String line) {
+    String[] values = splitCsv(line);
+    if (values.length != header.length) {
+      throw new IllegalArgumentException("Expected " + header.length + " columns");
+    }
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 0; i < header.length; i++) {
+      fields.put(header[i], values[i].isEmpty() ? null : values[i]);
+    }
+    try {
+      return objectMapper.convertValue(fields, UserImportLineDto.class);
+    } catch (IllegalArgumentException e) {
+      // El mensaje de Jackson incluye el valor recibido, que puede ser la contraseña
+      throw new IllegalArgumentException("Malformed line");
+    }
+  }
+
+  private static UserModel toModel(UserImportLineDto dto) {
+    UserModel user = new UserModel();
+    user.setFirstName(dto.getFirstName());
+    user.setLastName(dto.getLastName());
+    user.setDocument(dto.getDocument());
+    user.setPhone(dto.getPhone());
+    user.setBirthDate(dto.getBirthDate());
+    user.setEmail(dto.getEmail());
+    user.setPassword(dto.getPassword());
+    user.setRestaurantId(dto.getRestaurantId());
+    if (dto.getRole() != null) {
+      try {
+        user.setRole(RoleEnum.valueOf(dto.getRole().trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unknown role");
+      }
+    }
+    // Sin esto un nombre largo solo falla en el INSERT y arrastra a todo su lote
+    requireName(dto.getFirstName(), "First name");
+    requireName(dto.getLastName(), "Last name");
+    return user;
+  }
+
+  private static void requireName(String value, String field) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(field + " is required");
+    }
+    if (value.length() > UserImportLineDto.MAX_NAME_LENGTH) {
+      throw new IllegalArgumentException(
+          field + " must be at most " + UserImportLineDto.MAX_NAME_LENGTH + " characters");
+    }
+  }
+
+  /** Comma-separated values; a field may be wrapped in double quotes, with "" as an escape. */
+  static String[] splitCsv(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        values.add(current.toString().trim());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    values.add(current.toString().trim());
+    return values.toArray(new String[0]);
+  }
+}
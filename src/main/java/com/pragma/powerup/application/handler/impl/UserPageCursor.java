@@ -0,0 +1,40 @@
+package com.pragma.powerup.application.handler.impl;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for the user listing. It only carries the last id served; clients must
+ * pass it back unchanged together with the same filters.
+ */
+final class UserPageCursor {
+
+  private static final String PREFIX = "u1:";
+
+  private UserPageCursor() {}
+
+  static String encode(Long afterId) {
+    if (afterId == null) {
+      return null;
+    }
+    byte[] raw = (PREFIX + afterId).getBytes(StandardCharsets.US_ASCII);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+  }
+
+  static Long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+      if (!raw.startsWith(PREFIX)) {
+        throw new DomainException("Invalid cursor");
+      }
+      return Long.valueOf(raw.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      // Base64 o número mal formado (NumberFormatException es IllegalArgumentException)
+      throw new DomainException("Invalid cursor");
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.pragma.powerup.application.mapper;
 
+import com.pragma.powerup.application.dto.response.UserExportDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
 import com.pragma.powerup.domain.model.UserModel;
 import org.mapstruct.Mapper;
@@ -16,4 +17,9 @@ public interface IUserResponseMapper {
       target = "role",
       expression = "java(user.getRole() != null ? user.getRole().name() : null)")
   UserResponseDto toResponse(UserModel user);
+
+  @Mapping(
+      target = "role",
+      expression = "java(user.getRole() != null ? user.getRole().name() : null)")
+  UserExportDto toExport(UserModel user);
 }
@@ -0,0 +1,22 @@
+package com.pragma.powerup.domain.api;
+
+import com.pragma.powerup.domain.model.AuthSessionModel;
+
+public interface IRefreshTokenServicePort {
+
+  /** Starts a new refresh-token family for the user and returns the opaque token. */
+  String issue(Long userId);
+
+  /** Consumes the refresh token and returns its user together with the rotated token. */
+  AuthSessionModel refresh(String refreshToken);
+
+  /**
+   * Revokes the family of {@code refreshToken} if it belongs to {@code userId}. Unknown tokens are
+   * ignored, so logging out twice is harmless.
+   */
+  void revoke(String refreshToken, Long userId);
+
+  void revokeAll(Long userId);
+
+  void purgeExpired();
+}
@@ -0,0 +1,10 @@
+package com.pragma.powerup.domain.api;
+
+import java.time.Instant;
+
+public interface ITokenRevocationServicePort {
+
+  void revokeToken(String tokenId, Long userId, Instant expiresAt);
+
+  void revokeAllTokens(Long userId);
+}
@@ -0,0 +1,16 @@
+package com.pragma.powerup.domain.api;
+
+import com.pragma.powerup.domain.model.UserImportRecordModel;
+import com.pragma.powerup.domain.model.UserImportResultModel;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface IUserImportServicePort {
+
+  /**
+   * Creates the users of {@code records} chunk by chunk, reading the iterator lazily, and reports
+   * one result per record in line order as each chunk is stored.
+   */
+  void importUsers(
+      Iterator<UserImportRecordModel> records, Consumer<UserImportResultModel> results);
+}
@@ -1,6 +1,12 @@
 package com.pragma.powerup.domain.api;
 
+import com.pragma.powerup.domain.model.EmployeeAssignmentModel;
+import com.pragma.powerup.domain.model.UserFilterModel;
 import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.model.UserPageModel;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IUserServicePort {
   UserModel createOwner(UserModel user);
@@ -11,5 +17,27 @@ public interface IUserServicePort {
 
   UserModel getUserById(Long id);
 
+  /**
+   * Streams the users with the given ids to {@code consumer}.
+   *
+   * @return the requested ids that do not exist, in request order
+   */
+  List<Long> getUsersByIds(Collection<Long> ids, Consumer<UserModel> consumer);
+
   boolean isEmployeeOfRestaurant(Long userId, Long restaurantId);
+
+  /**
+   * Batched {@link #isEmployeeOfRestaurant}: one answer per pair, in the same order, resolved
+   * with a single query.
+   */
+  List<Boolean> areEmployeesOfRestaurants(List<EmployeeAssignmentModel> assignments);
+
+  /**
+   * Users matching {@code filter} in id order, {@code size} at a time, continuing after {@code
+   * afterId} ({@code null} for the first page).
+   */
+  UserPageModel listUsers(UserFilterModel filter, Long afterId, int size);
+
+  /** Every user, handed to {@code consumer} as it is read; passwords are never included. */
+  void exportUsers(Consumer<UserModel> consumer);
 }
@@ -0,0 +1,30 @@
+package com.pragma.powerup.domain.exception;
+
+/**
+ * A user with the same email or document already exists. Raised by persistence when the insert
+ * hits the corresponding unique constraint, so the check and the write are a single statement.
+ */
+public class DuplicateUserException extends DomainException {
+
+  public enum Field {
+    EMAIL("Email already registered"),
+    DOCUMENT("Document already registered");
+
+    private final String message;
+
+    Field(String message) {
+      this.message = message;
+    }
+  }
+
+  private final Field field;
+
+  public DuplicateUserException(Field field) {
+    super(field.message);
+    this.field = field;
+  }
+
+  public Field getField() {
+    return field;
+  }
+}
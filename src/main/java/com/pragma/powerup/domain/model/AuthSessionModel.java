@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Result of a refresh: the user the session belongs to and the refresh token that replaces it. */
+@Getter
+@AllArgsConstructor
+public class AuthSessionModel {
+  private final UserModel user;
+  private final String refreshToken;
+}
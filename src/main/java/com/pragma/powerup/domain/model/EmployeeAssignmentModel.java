@@ -0,0 +1,12 @@
+package com.pragma.powerup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** A (user, restaurant) pair to check: is the user an employee of that restaurant? */
+@Getter
+@AllArgsConstructor
+public class EmployeeAssignmentModel {
+  private final Long userId;
+  private final Long restaurantId;
+}
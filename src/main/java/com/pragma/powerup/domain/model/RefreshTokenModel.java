@@ -0,0 +1,18 @@
+package com.pragma.powerup.domain.model;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RefreshTokenModel {
+  private Long id;
+  private String tokenHash; // SHA-256 del token opaco; el token en claro nunca se guarda
+  private Long userId;
+  private String familyId; // cadena de rotaciones que nace en un mismo login
+  private Instant expiresAt;
+  private Instant createdAt;
+  private boolean used;
+  private boolean revoked;
+}
@@ -0,0 +1,13 @@
+package com.pragma.powerup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Criteria for listing users. A {@code null} field does not filter. */
+@Getter
+@AllArgsConstructor
+public class UserFilterModel {
+  private final RoleEnum role;
+  private final Long restaurantId;
+  private final Boolean active;
+}
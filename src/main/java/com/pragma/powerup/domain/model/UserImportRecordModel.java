@@ -0,0 +1,24 @@
+package com.pragma.powerup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One line of a bulk import: the parsed user (role included), or the reason it could not be
+ * parsed.
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportRecordModel {
+  private final long line;
+  private final UserModel user;
+  private final String parseError;
+
+  public static UserImportRecordModel parsed(long line, UserModel user) {
+    return new UserImportRecordModel(line, user, null);
+  }
+
+  public static UserImportRecordModel unparseable(long line, String parseError) {
+    return new UserImportRecordModel(line, null, parseError);
+  }
+}
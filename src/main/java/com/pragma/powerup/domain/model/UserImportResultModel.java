@@ -0,0 +1,22 @@
+package com.pragma.powerup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Outcome of one import line: the id of the created user, or why it was rejected. */
+@Getter
+@AllArgsConstructor
+public class UserImportResultModel {
+  private final long line;
+  private final boolean created;
+  private final Long userId;
+  private final String message;
+
+  public static UserImportResultModel created(long line, Long userId) {
+    return new UserImportResultModel(line, true, userId, null);
+  }
+
+  public static UserImportResultModel rejected(long line, String message) {
+    return new UserImportResultModel(line, false, null, message);
+  }
+}
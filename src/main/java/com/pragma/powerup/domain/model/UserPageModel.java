@@ -0,0 +1,16 @@
+package com.pragma.powerup.domain.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of users ordered by id. {@code nextAfterId} is the id to continue after, or {@code
+ * null} on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPageModel {
+  private final List<UserModel> users;
+  private final Long nextAfterId;
+}
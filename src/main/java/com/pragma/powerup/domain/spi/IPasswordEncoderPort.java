@@ -4,4 +4,12 @@ public interface IPasswordEncoderPort {
   String encode(String raw);
 
   boolean matches(String raw, String encoded);
+
+  /**
+   * Whether a stored hash was produced with a different algorithm or cost than {@link #encode}
+   * uses now and should be replaced on the next successful login.
+   */
+  default boolean needsUpgrade(String encoded) {
+    return false;
+  }
 }
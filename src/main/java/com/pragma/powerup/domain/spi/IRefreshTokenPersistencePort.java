@@ -0,0 +1,23 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import java.time.Instant;
+
+public interface IRefreshTokenPersistencePort {
+  RefreshTokenModel save(RefreshTokenModel refreshToken);
+
+  RefreshTokenModel findByTokenHash(String tokenHash);
+
+  /**
+   * Atomically flips the token from unused to used.
+   *
+   * @return {@code false} if it was already used, i.e. someone is replaying it
+   */
+  boolean markUsed(Long id);
+
+  void revokeFamily(String familyId);
+
+  void revokeAllByUserId(Long userId);
+
+  void deleteExpiredBefore(Instant now);
+}
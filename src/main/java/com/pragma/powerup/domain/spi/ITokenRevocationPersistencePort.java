@@ -0,0 +1,23 @@
+package com.pragma.powerup.domain.spi;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface ITokenRevocationPersistencePort {
+  void revokeToken(String tokenId, Long userId, Instant expiresAt);
+
+  boolean isTokenRevoked(String tokenId);
+
+  List<String> findActiveRevokedTokenIds(Instant now);
+
+  void deleteRevokedTokensExpiredBefore(Instant now);
+
+  long incrementTokenEpoch(Long userId);
+
+  /** The user's token epoch as stored now; {@code 0} if it was never increased. */
+  long findTokenEpoch(Long userId);
+
+  /** Epochs increased at or after {@code since}, by user id; never-revoked users have none. */
+  Map<Long, Long> findTokenEpochsUpdatedSince(Instant since);
+}
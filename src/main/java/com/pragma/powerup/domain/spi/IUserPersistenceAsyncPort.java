@@ -0,0 +1,48 @@
+package com.pragma.powerup.domain.spi;
+
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Non-blocking counterpart of {@link IUserPersistencePort}, with the same semantics per method.
+ * Single results complete a {@link CompletionStage} ({@code null} when the user does not exist);
+ * multi-row reads are {@link Flow.Publisher}s that honour the subscriber's demand. Errors, such as
+ * {@code DuplicateUserException} on save, complete the stage exceptionally.
+ */
+public interface IUserPersistenceAsyncPort {
+  CompletionStage<Boolean> existsByEmail(String email);
+
+  CompletionStage<Boolean> existsByDocument(String document);
+
+  CompletionStage<UserModel> save(UserModel user);
+
+  CompletionStage<List<UserModel>> saveAll(List<UserModel> users);
+
+  CompletionStage<Set<String>> findExistingEmails(Collection<String> emails);
+
+  CompletionStage<Set<String>> findExistingDocuments(Collection<String> documents);
+
+  CompletionStage<UserModel> findByEmail(String email);
+
+  CompletionStage<UserModel> findCredentialsByEmail(String email);
+
+  CompletionStage<UserModel> findById(Long id);
+
+  Flow.Publisher<UserModel> findAllByIds(Collection<Long> ids);
+
+  CompletionStage<Boolean> existsEmployeeOfRestaurant(Long userId, Long restaurantId);
+
+  CompletionStage<Map<Long, Long>> findRestaurantIdsOfEmployees(Collection<Long> userIds);
+
+  CompletionStage<List<UserModel>> findPage(UserFilterModel filter, Long afterId, int limit);
+
+  Flow.Publisher<UserModel> streamAll();
+
+  CompletionStage<Boolean> updatePassword(Long id, String currentEncoded, String newEncoded);
+}
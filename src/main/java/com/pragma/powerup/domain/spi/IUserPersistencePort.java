@@ -1,6 +1,12 @@
 package com.pragma.powerup.domain.spi;
 
+import com.pragma.powerup.domain.model.UserFilterModel;
 import com.pragma.powerup.domain.model.UserModel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface IUserPersistencePort {
   boolean existsByEmail(String email);
@@ -9,7 +15,61 @@ public interface IUserPersistencePort {
 
   UserModel save(UserModel user);
 
+  /** Stores all users in one transaction, batching the inserts. */
+  List<UserModel> saveAll(List<UserModel> users);
+
+  /** The subset of {@code emails} already registered. */
+  Set<String> findExistingEmails(Collection<String> emails);
+
+  /** The subset of {@code documents} already registered. */
+  Set<String> findExistingDocuments(Collection<String> documents);
+
   UserModel findByEmail(String email);
 
+  /**
+   * The user for a login: only id, email, password, role and active are guaranteed to be loaded.
+   * Cheaper than {@link #findByEmail(String)} because it never reads the full row.
+   */
+  UserModel findCredentialsByEmail(String email);
+
   UserModel findById(Long id);
+
+  /**
+   * Loads every existing user among {@code ids} in one round trip and hands each one to {@code
+   * consumer} as soon as it is mapped, in no particular order. Unknown ids are skipped.
+   */
+  void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer);
+
+  /**
+   * Whether the user exists, has the EMPLOYEE role and belongs to the restaurant. Answered without
+   * loading the user.
+   */
+  boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId);
+
+  /**
+   * Restaurant of every user among {@code userIds} that has the EMPLOYEE role and a restaurant
+   * assigned, keyed by user id. One query for the whole set.
+   */
+  Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds);
+
+  /**
+   * Up to {@code limit} users matching {@code filter} with an id greater than {@code afterId} (from
+   * the start when {@code null}), ordered by id. Seeks on the id instead of skipping rows, so any
+   * page costs the same as the first one.
+   */
+  List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit);
+
+  /**
+   * Hands every user to {@code consumer} while the table is read, in no particular order, without
+   * holding them in memory. The password is not loaded and stays {@code null}.
+   */
+  void streamAll(Consumer<UserModel> consumer);
+
+  /**
+   * Replaces the password hash only if it still equals {@code currentEncoded}, so a rehash never
+   * overwrites a password the user changed in the meantime.
+   *
+   * @return {@code true} if the hash was replaced
+   */
+  boolean updatePassword(Long id, String currentEncoded, String newEncoded);
 }
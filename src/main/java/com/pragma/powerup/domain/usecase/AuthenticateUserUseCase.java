@@ -5,16 +5,31 @@ import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
 import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.domain.util.UserValidation;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AuthenticateUserUseCase implements IAuthServicePort {
 
   private final IUserPersistencePort userPersistencePort;
   private final IPasswordEncoderPort passwordEncoderPort;
+  private final Executor passwordUpgradeExecutor;
 
   public AuthenticateUserUseCase(
       IUserPersistencePort userPersistencePort, IPasswordEncoderPort passwordEncoderPort) {
+    this(userPersistencePort, passwordEncoderPort, Runnable::run);
+  }
+
+  /**
+   * @param passwordUpgradeExecutor runs the re-encoding of outdated hashes off the login path
+   */
+  public AuthenticateUserUseCase(
+      IUserPersistencePort userPersistencePort,
+      IPasswordEncoderPort passwordEncoderPort,
+      Executor passwordUpgradeExecutor) {
     this.userPersistencePort = userPersistencePort;
     this.passwordEncoderPort = passwordEncoderPort;
+    this.passwordUpgradeExecutor = passwordUpgradeExecutor;
   }
 
   @Override
@@ -23,7 +38,8 @@ public class AuthenticateUserUseCase implements IAuthServicePort {
       throw new DomainException("Email and password are required");
     }
 
-    UserModel user = userPersistencePort.findByEmail(email);
+    UserModel user =
+        userPersistencePort.findCredentialsByEmail(UserValidation.canonicalEmail(email));
     if (user == null) {
       throw new DomainException("Invalid credentials");
     }
@@ -36,6 +52,26 @@ public class AuthenticateUserUseCase implements IAuthServicePort {
       throw new DomainException("Invalid credentials");
     }
 
+    if (passwordEncoderPort.needsUpgrade(user.getPassword())) {
+      scheduleUpgrade(user.getId(), password, user.getPassword());
+    }
+
     return user;
   }
+
+  private void scheduleUpgrade(Long userId, String rawPassword, String currentEncoded) {
+    try {
+      passwordUpgradeExecutor.execute(
+          () -> {
+            try {
+              String upgraded = passwordEncoderPort.encode(rawPassword);
+              userPersistencePort.updatePassword(userId, currentEncoded, upgraded);
+            } catch (RuntimeException ignored) {
+              // Mejor esfuerzo: el hash antiguo sigue valiendo; se reintenta en el próximo login
+            }
+          });
+    } catch (RejectedExecutionException ignored) {
+      // Cola de rehash llena: el login no debe fallar por esto
+    }
+  }
 }
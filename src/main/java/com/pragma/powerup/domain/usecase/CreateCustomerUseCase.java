@@ -1,6 +1,6 @@
 package com.pragma.powerup.domain.usecase;
 
-import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.exception.DuplicateUserException;
 import com.pragma.powerup.domain.model.RoleEnum;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
@@ -26,11 +26,14 @@ public class CreateCustomerUseCase {
   public UserModel createCustomer(UserModel request) {
     UserValidation.validateCommonFields(request, dateProviderPort);
 
+    // Comprobación barata antes del BCrypt: un registro duplicado cuesta una consulta por índice
+    // y no un hash. La carrera entre comprobar y guardar la resuelven los índices únicos en el
+    // INSERT (DuplicateUserException)
     if (userPersistencePort.existsByEmail(request.getEmail())) {
-      throw new DomainException("Email already registered");
+      throw new DuplicateUserException(DuplicateUserException.Field.EMAIL);
     }
     if (userPersistencePort.existsByDocument(request.getDocument())) {
-      throw new DomainException("Document already registered");
+      throw new DuplicateUserException(DuplicateUserException.Field.DOCUMENT);
     }
 
     String encoded = passwordEncoderPort.encode(request.getPassword());
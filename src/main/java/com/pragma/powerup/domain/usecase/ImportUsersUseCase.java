@@ -0,0 +1,209 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.api.IUserImportServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserImportRecordModel;
+import com.pragma.powerup.domain.model.UserImportResultModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.domain.util.UserValidation;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Bulk creation of owners, employees and customers. Records are processed in chunks of {@code
+ * batchSize}: each chunk is validated with the same rules as the single-user endpoints, checked
+ * for duplicates with one query per column, hashed in parallel on {@code hashingExecutor} and
+ * stored with a single batched insert.
+ */
+public class ImportUsersUseCase implements IUserImportServicePort {
+
+  private final IUserPersistencePort userPersistencePort;
+  private final IPasswordEncoderPort passwordEncoderPort;
+  private final IDateProviderPort dateProviderPort;
+  private final Executor hashingExecutor;
+  private final int batchSize;
+
+  public ImportUsersUseCase(
+      IUserPersistencePort userPersistencePort,
+      IPasswordEncoderPort passwordEncoderPort,
+      IDateProviderPort dateProviderPort,
+      Executor hashingExecutor,
+      int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+    this.userPersistencePort = userPersistencePort;
+    this.passwordEncoderPort = passwordEncoderPort;
+    this.dateProviderPort = dateProviderPort;
+    this.hashingExecutor = hashingExecutor;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void importUsers(
+      Iterator<UserImportRecordModel> records, Consumer<UserImportResultModel> results) {
+    // Emails y documentos ya aceptados en chunks anteriores de esta misma importación
+    Set<String> seenEmails = new HashSet<>();
+    Set<String> seenDocuments = new HashSet<>();
+    List<UserImportRecordModel> chunk = new ArrayList<>(batchSize);
+    while (records.hasNext()) {
+      chunk.add(records.next());
+      if (chunk.size() == batchSize) {
+        importChunk(chunk, seenEmails, seenDocuments, results);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      importChunk(chunk, seenEmails, seenDocuments, results);
+    }
+  }
+
+  private void importChunk(
+      List<UserImportRecordModel> chunk,
+      Set<String> seenEmails,
+      Set<String> seenDocuments,
+      Consumer<UserImportResultModel> results) {
+    UserImportResultModel[] outcomes = new UserImportResultModel[chunk.size()];
+    List<Integer> accepted = new ArrayList<>();
+    for (int i = 0; i < chunk.size(); i++) {
+      UserImportRecordModel record = chunk.get(i);
+      try {
+        validate(record);
+        accepted.add(i);
+      } catch (DomainException e) {
+        outcomes[i] = UserImportResultModel.rejected(record.getLine(), e.getMessage());
+      }
+    }
+
+    rejectDuplicates(chunk, accepted, outcomes, seenEmails, seenDocuments);
+    hashPasswords(chunk, accepted, outcomes);
+    store(chunk, accepted, outcomes);
+
+    for (UserImportResultModel outcome : outcomes) {
+      results.accept(outcome);
+    }
+  }
+
+  private void validate(UserImportRecordModel record) {
+    if (record.getParseError() != null) {
+      throw new DomainException(record.getParseError());
+    }
+    UserModel user = record.getUser();
+    UserValidation.validateCommonFields(user, dateProviderPort);
+    if (user.getPassword() == null || user.getPassword().isBlank()) {
+      throw new DomainException("Password is required");
+    }
+    if (user.getRole() == null || user.getRole() == RoleEnum.ADMIN) {
+      throw new DomainException("Role must be OWNER, EMPLOYEE or CUSTOMER");
+    }
+    if (user.getRole() == RoleEnum.EMPLOYEE && user.getRestaurantId() == null) {
+      throw new DomainException("Restaurant is required for employee");
+    }
+  }
+
+  private void rejectDuplicates(
+      List<UserImportRecordModel> chunk,
+      List<Integer> accepted,
+      UserImportResultModel[] outcomes,
+      Set<String> seenEmails,
+      Set<String> seenDocuments) {
+    if (accepted.isEmpty()) {
+      return;
+    }
+    List<String> emails = new ArrayList<>(accepted.size());
+    List<String> documents = new ArrayList<>(accepted.size());
+    for (int i : accepted) {
+      emails.add(chunk.get(i).getUser().getEmail());
+      documents.add(chunk.get(i).getUser().getDocument());
+    }
+    Set<String> existingEmails = userPersistencePort.findExistingEmails(emails);
+    Set<String> existingDocuments = userPersistencePort.findExistingDocuments(documents);
+
+    Iterator<Integer> it = accepted.iterator();
+    while (it.hasNext()) {
+      int i = it.next();
+      UserModel user = chunk.get(i).getUser();
+      String message = null;
+      if (existingEmails.contains(user.getEmail()) || !seenEmails.add(user.getEmail())) {
+        message = "Email already registered";
+      } else if (existingDocuments.contains(user.getDocument())
+          || !seenDocuments.add(user.getDocument())) {
+        seenEmails.remove(user.getEmail());
+        message = "Document already registered";
+      }
+      if (message != null) {
+        outcomes[i] = UserImportResultModel.rejected(chunk.get(i).getLine(), message);
+        it.remove();
+      }
+    }
+  }
+
+  private void hashPasswords(
+      List<UserImportRecordModel> chunk, List<Integer> accepted, UserImportResultModel[] outcomes) {
+    List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+    for (int i : accepted) {
+      String raw = chunk.get(i).getUser().getPassword();
+      hashes.add(
+          CompletableFuture.supplyAsync(() -> passwordEncoderPort.encode(raw), hashingExecutor));
+    }
+    Iterator<Integer> it = accepted.iterator();
+    for (CompletableFuture<String> hash : hashes) {
+      int i = it.next();
+      try {
+        chunk.get(i).getUser().setPassword(hash.join());
+      } catch (CompletionException e) {
+        outcomes[i] =
+            UserImportResultModel.rejected(chunk.get(i).getLine(), e.getCause().getMessage());
+        it.remove();
+      }
+    }
+  }
+
+  private void store(
+      List<UserImportRecordModel> chunk, List<Integer> accepted, UserImportResultModel[] outcomes) {
+    if (accepted.isEmpty()) {
+      return;
+    }
+    List<UserModel> users = new ArrayList<>(accepted.size());
+    for (int i : accepted) {
+      UserModel user = chunk.get(i).getUser();
+      user.setId(null);
+      user.setActive(true);
+      users.add(user);
+    }
+    try {
+      List<UserModel> saved = userPersistencePort.saveAll(users);
+      for (int k = 0; k < accepted.size(); k++) {
+        int i = accepted.get(k);
+        outcomes[i] = UserImportResultModel.created(chunk.get(i).getLine(), saved.get(k).getId());
+      }
+    } catch (RuntimeException batchFailure) {
+      // Una fila conflictiva (p. ej. un alta concurrente) tumba el lote: se reintenta fila a fila
+      for (int i : accepted) {
+        outcomes[i] = storeOne(chunk.get(i));
+      }
+    }
+  }
+
+  private UserImportResultModel storeOne(UserImportRecordModel record) {
+    try {
+      UserModel saved = userPersistencePort.save(record.getUser());
+      return UserImportResultModel.created(record.getLine(), saved.getId());
+    } catch (DomainException e) {
+      return UserImportResultModel.rejected(record.getLine(), e.getMessage());
+    } catch (RuntimeException e) {
+      return UserImportResultModel.rejected(record.getLine(), "User could not be stored");
+    }
+  }
+}
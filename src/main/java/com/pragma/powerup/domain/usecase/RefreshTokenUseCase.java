@@ -0,0 +1,129 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.api.IRefreshTokenServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.AuthSessionModel;
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens. Only the SHA-256 of each token is stored, so a refresh is a
+ * hash lookup instead of a BCrypt check. Every refresh consumes the presented token and issues a
+ * new one in the same family; presenting a consumed token again revokes the whole family.
+ */
+public class RefreshTokenUseCase implements IRefreshTokenServicePort {
+
+  private static final int TOKEN_BYTES = 32;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final IRefreshTokenPersistencePort refreshTokenPersistencePort;
+  private final IUserPersistencePort userPersistencePort;
+  private final Clock clock;
+  private final Duration refreshExpiration;
+  private final SecureRandom secureRandom = new SecureRandom();
+
+  public RefreshTokenUseCase(
+      IRefreshTokenPersistencePort refreshTokenPersistencePort,
+      IUserPersistencePort userPersistencePort,
+      Clock clock,
+      Duration refreshExpiration) {
+    this.refreshTokenPersistencePort = refreshTokenPersistencePort;
+    this.userPersistencePort = userPersistencePort;
+    this.clock = clock;
+    this.refreshExpiration = refreshExpiration;
+  }
+
+  @Override
+  public String issue(Long userId) {
+    if (userId == null) {
+      throw new DomainException("User id is required");
+    }
+    return store(userId, UUID.randomUUID().toString());
+  }
+
+  @Override
+  public AuthSessionModel refresh(String refreshToken) {
+    if (refreshToken == null || refreshToken.isBlank()) {
+      throw new DomainException("Refresh token is required");
+    }
+
+    RefreshTokenModel current = refreshTokenPersistencePort.findByTokenHash(hash(refreshToken));
+    if (current == null || current.isRevoked()) {
+      throw new DomainException("Invalid refresh token");
+    }
+    if (!clock.instant().isBefore(current.getExpiresAt())) {
+      throw new DomainException("Refresh token expired");
+    }
+    if (!refreshTokenPersistencePort.markUsed(current.getId())) {
+      // Reutilización: el token ya rotó, así que alguien más lo tiene. Se corta toda la familia
+      refreshTokenPersistencePort.revokeFamily(current.getFamilyId());
+      throw new DomainException("Invalid refresh token");
+    }
+
+    UserModel user = userPersistencePort.findById(current.getUserId());
+    if (user == null || !Boolean.TRUE.equals(user.getActive())) {
+      refreshTokenPersistencePort.revokeFamily(current.getFamilyId());
+      throw new DomainException("User is not active");
+    }
+
+    return new AuthSessionModel(user, store(user.getId(), current.getFamilyId()));
+  }
+
+  @Override
+  public void revoke(String refreshToken, Long userId) {
+    if (refreshToken == null || refreshToken.isBlank() || userId == null) {
+      return;
+    }
+    RefreshTokenModel current = refreshTokenPersistencePort.findByTokenHash(hash(refreshToken));
+    // Un token ajeno no se toca: el logout de un usuario no puede cerrar la sesión de otro
+    if (current != null && userId.equals(current.getUserId())) {
+      refreshTokenPersistencePort.revokeFamily(current.getFamilyId());
+    }
+  }
+
+  @Override
+  public void revokeAll(Long userId) {
+    refreshTokenPersistencePort.revokeAllByUserId(userId);
+  }
+
+  @Override
+  public void purgeExpired() {
+    refreshTokenPersistencePort.deleteExpiredBefore(clock.instant());
+  }
+
+  private String store(Long userId, String familyId) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    secureRandom.nextBytes(bytes);
+    String token = ENCODER.encodeToString(bytes);
+
+    Instant now = clock.instant();
+    RefreshTokenModel model = new RefreshTokenModel();
+    model.setTokenHash(hash(token));
+    model.setUserId(userId);
+    model.setFamilyId(familyId);
+    model.setCreatedAt(now);
+    model.setExpiresAt(now.plus(refreshExpiration));
+    refreshTokenPersistencePort.save(model);
+    return token;
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.api.ITokenRevocationServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import java.time.Instant;
+
+public class TokenRevocationUseCase implements ITokenRevocationServicePort {
+
+  private final ITokenRevocationPersistencePort tokenRevocationPersistencePort;
+  private final IUserPersistencePort userPersistencePort;
+
+  public TokenRevocationUseCase(
+      ITokenRevocationPersistencePort tokenRevocationPersistencePort,
+      IUserPersistencePort userPersistencePort) {
+    this.tokenRevocationPersistencePort = tokenRevocationPersistencePort;
+    this.userPersistencePort = userPersistencePort;
+  }
+
+  @Override
+  public void revokeToken(String tokenId, Long userId, Instant expiresAt) {
+    if (tokenId == null || tokenId.isBlank()) {
+      throw new DomainException("Token id is required");
+    }
+    if (expiresAt == null) {
+      throw new DomainException("Token expiration is required");
+    }
+    tokenRevocationPersistencePort.revokeToken(tokenId, userId, expiresAt);
+  }
+
+  @Override
+  public void revokeAllTokens(Long userId) {
+    if (userId == null || userPersistencePort.findById(userId) == null) {
+      throw new DomainException("User not found");
+    }
+    // Los tokens llevan la época del usuario al emitirse; subirla invalida todos los anteriores
+    tokenRevocationPersistencePort.incrementTokenEpoch(userId);
+  }
+}
@@ -1,13 +1,28 @@
 package com.pragma.powerup.domain.usecase;
 
 import com.pragma.powerup.domain.api.IUserServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.EmployeeAssignmentModel;
+import com.pragma.powerup.domain.model.UserFilterModel;
 import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.model.UserPageModel;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
 import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class UserUseCase implements IUserServicePort {
 
+  public static final int MAX_BATCH_SIZE = 5000;
+  public static final int MAX_PAGE_SIZE = 500;
+
   private final CreateOwnerUseCase createOwnerUseCase;
   private final CreateEmployeeUseCase createEmployeeUseCase;
   private final CreateCustomerUseCase createCustomerUseCase;
@@ -47,17 +62,81 @@ public class UserUseCase implements IUserServicePort {
   }
 
   @Override
-  public boolean isEmployeeOfRestaurant(Long userId, Long restaurantId) {
-    UserModel user = userPersistencePort.findById(userId);
-    if (user == null) {
-      return false;
+  public List<Long> getUsersByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    Set<Long> missing = new LinkedHashSet<>();
+    for (Long id : ids) {
+      if (id != null) {
+        missing.add(id);
+      }
     }
+    if (missing.size() > MAX_BATCH_SIZE) {
+      throw new DomainException("At most " + MAX_BATCH_SIZE + " ids per request");
+    }
+    if (missing.isEmpty()) {
+      return List.of();
+    }
+    // Una sola consulta; lo que no llega desde persistencia queda como no encontrado
+    userPersistencePort.findAllByIds(
+        List.copyOf(missing),
+        user -> {
+          missing.remove(user.getId());
+          consumer.accept(user);
+        });
+    return new ArrayList<>(missing);
+  }
 
+  @Override
+  public boolean isEmployeeOfRestaurant(Long userId, Long restaurantId) {
     // Un usuario es empleado de un restaurante si:
     // 1. Tiene el rol EMPLOYEE
     // 2. Su restaurantId coincide con el restaurantId solicitado
-    return user.getRole() == com.pragma.powerup.domain.model.RoleEnum.EMPLOYEE
-        && restaurantId != null
-        && restaurantId.equals(user.getRestaurantId());
+    // La comprobación se delega a la persistencia para no cargar el usuario completo
+    if (userId == null || restaurantId == null) {
+      return false;
+    }
+    return userPersistencePort.existsEmployeeOfRestaurant(userId, restaurantId);
+  }
+
+  @Override
+  public List<Boolean> areEmployeesOfRestaurants(List<EmployeeAssignmentModel> assignments) {
+    if (assignments.size() > MAX_BATCH_SIZE) {
+      throw new DomainException("At most " + MAX_BATCH_SIZE + " pairs per request");
+    }
+    Set<Long> userIds = new HashSet<>();
+    for (EmployeeAssignmentModel assignment : assignments) {
+      if (assignment.getUserId() != null && assignment.getRestaurantId() != null) {
+        userIds.add(assignment.getUserId());
+      }
+    }
+    // Un empleado tiene un único restaurante: basta con traer ese restaurante por usuario
+    Map<Long, Long> restaurantByEmployee =
+        userIds.isEmpty() ? Map.of() : userPersistencePort.findRestaurantIdsOfEmployees(userIds);
+    List<Boolean> results = new ArrayList<>(assignments.size());
+    for (EmployeeAssignmentModel assignment : assignments) {
+      Long restaurantId = assignment.getRestaurantId();
+      results.add(
+          restaurantId != null
+              && restaurantId.equals(restaurantByEmployee.get(assignment.getUserId())));
+    }
+    return results;
+  }
+
+  @Override
+  public UserPageModel listUsers(UserFilterModel filter, Long afterId, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new DomainException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    // Se pide una fila de más: si llega, hay página siguiente y no hace falta count(*)
+    List<UserModel> users = userPersistencePort.findPage(filter, afterId, size + 1);
+    if (users.size() <= size) {
+      return new UserPageModel(users, null);
+    }
+    List<UserModel> page = users.subList(0, size);
+    return new UserPageModel(new ArrayList<>(page), page.get(size - 1).getId());
+  }
+
+  @Override
+  public void exportUsers(Consumer<UserModel> consumer) {
+    userPersistencePort.streamAll(consumer);
   }
 }
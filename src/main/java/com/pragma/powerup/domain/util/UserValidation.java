@@ -5,12 +5,23 @@ import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Locale;
 
 public final class UserValidation {
 
   private UserValidation() {}
 
+  /**
+   * The form emails are stored and looked up in: trimmed and lower-cased. Every lookup compares
+   * with plain equality against this form, so it always hits the unique index on {@code email}.
+   */
+  public static String canonicalEmail(String email) {
+    return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+  }
+
+  /** Also canonicalizes the email in place, so it is stored in the form lookups use. */
   public static void validateCommonFields(UserModel user, IDateProviderPort dateProviderPort) {
+    user.setEmail(canonicalEmail(user.getEmail()));
     if (user.getEmail() == null || !user.getEmail().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$")) {
       throw new DomainException("Invalid email");
     }
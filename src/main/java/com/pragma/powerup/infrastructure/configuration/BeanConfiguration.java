@@ -1,43 +1,138 @@
 package com.pragma.powerup.infrastructure.configuration;
 
 import com.pragma.powerup.domain.api.IAuthServicePort;
+import com.pragma.powerup.domain.api.IRefreshTokenServicePort;
+import com.pragma.powerup.domain.api.ITokenRevocationServicePort;
+import com.pragma.powerup.domain.api.IUserImportServicePort;
 import com.pragma.powerup.domain.api.IUserServicePort;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IRefreshTokenPersistencePort;
 import com.pragma.powerup.domain.spi.IUserPersistencePort;
 import com.pragma.powerup.domain.usecase.AuthenticateUserUseCase;
+import com.pragma.powerup.domain.usecase.ImportUsersUseCase;
+import com.pragma.powerup.domain.usecase.RefreshTokenUseCase;
+import com.pragma.powerup.domain.usecase.TokenRevocationUseCase;
 import com.pragma.powerup.domain.usecase.UserUseCase;
+import com.pragma.powerup.infrastructure.out.cache.CachingUserPersistenceAdapter;
+import com.pragma.powerup.infrastructure.out.cache.IUserInvalidationTransport;
+import com.pragma.powerup.infrastructure.out.cache.InJvmUserInvalidationTransport;
+import com.pragma.powerup.infrastructure.out.cache.PostgresUserInvalidationTransport;
+import com.pragma.powerup.infrastructure.out.jdbc.UserJdbcAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.RefreshTokenJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.TokenRevocationJpaAdapter;
 import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IRefreshTokenEntityMapper;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRefreshTokenRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRevokedTokenRepository;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserTokenEpochRepository;
+import com.pragma.powerup.infrastructure.out.memory.RefreshTokenInMemoryAdapter;
+import com.pragma.powerup.infrastructure.security.BCryptCostCalibrator;
+import com.pragma.powerup.infrastructure.security.BoundedPasswordEncoder;
+import com.pragma.powerup.infrastructure.security.CostAwareBCryptPasswordEncoder;
+import com.pragma.powerup.infrastructure.security.TokenRevocationRegistry;
+import com.pragma.powerup.infrastructure.security.VerifiedCredentialCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Configuration
 public class BeanConfiguration {
 
   @Bean
   public IUserPersistencePort userPersistencePort(
-      IUserRepository userRepository, IUserEntityMapper userEntityMapper) {
-    return new UserJpaAdapter(userRepository, userEntityMapper);
+      IUserRepository userRepository,
+      IUserEntityMapper userEntityMapper,
+      @Value("${persistence.user-cache.enabled:false}") boolean userCacheEnabled,
+      @Value("${persistence.user-cache.max-size:10000}") long userCacheMaxSize,
+      @Value("${persistence.user-cache.ttl-seconds:60}") long userCacheTtlSeconds,
+      MeterRegistry meterRegistry,
+      IUserInvalidationTransport userInvalidationTransport,
+      @Value("${persistence.user-adapter:jpa}") String userAdapter,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+    IUserPersistencePort adapter;
+    if ("jdbc".equalsIgnoreCase(userAdapter)) {
+      adapter = new UserJdbcAdapter(jdbcTemplate, new TransactionTemplate(transactionManager));
+    } else {
+      adapter = new UserJpaAdapter(userRepository, userEntityMapper);
+    }
+    // Solo existe con réplica de lectura: registra las escrituras al confirmar
+    ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+    if (tracker != null) {
+      adapter =
+          new ReadYourWritesUserPersistenceAdapter(
+              adapter, tracker, DataSourceRoutingConfiguration::currentUserId);
+    }
+    if (!userCacheEnabled) {
+      return adapter;
+    }
+    return new CachingUserPersistenceAdapter(
+        adapter,
+        userCacheMaxSize,
+        Duration.ofSeconds(userCacheTtlSeconds),
+        meterRegistry,
+        userInvalidationTransport,
+        UUID.randomUUID().toString());
   }
 
+  /**
+   * Carries user cache invalidations between replicas. {@code postgres} only opens its listening
+   * connection once a cache subscribes, so it costs nothing while the cache is disabled.
+   */
   @Bean
-  public IPasswordEncoderPort passwordEncoderPort() {
-    return new IPasswordEncoderPort() {
-      private final BCryptPasswordEncoder delegate = new BCryptPasswordEncoder();
-
-      @Override
-      public String encode(String raw) {
-        return delegate.encode(raw);
-      }
+  public IUserInvalidationTransport userInvalidationTransport(
+      @Value("${persistence.user-cache.invalidation.transport:jvm}") String transport,
+      @Value("${persistence.user-cache.invalidation.channel:user_cache_invalidation}")
+          String channel,
+      DataSource dataSource) {
+    if ("postgres".equalsIgnoreCase(transport)) {
+      return new PostgresUserInvalidationTransport(dataSource, channel);
+    }
+    return new InJvmUserInvalidationTransport();
+  }
 
-      @Override
-      public boolean matches(String raw, String encoded) {
-        return delegate.matches(raw, encoded);
-      }
-    };
+  @Bean
+  public BoundedPasswordEncoder passwordEncoderPort(
+      @Value("${password.bcrypt.strength:10}") int strength,
+      @Value("${password.bcrypt.target-ms:250}") long targetMs,
+      @Value("${password.hashing.threads:0}") int threads,
+      @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${password.hashing.max-wait-ms:2000}") long maxWaitMs,
+      @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+      MeterRegistry meterRegistry) {
+    // BCrypt es CPU puro: más hilos que núcleos solo añade cambios de contexto
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    // strength 0: calibrar al arrancar contra el presupuesto target-ms
+    int cost =
+        strength > 0 ? strength : BCryptCostCalibrator.calibrate(Duration.ofMillis(targetMs));
+    log.info("BCrypt cost {} (configured strength {}, target {} ms)", cost, strength, targetMs);
+    return new BoundedPasswordEncoder(
+        new CostAwareBCryptPasswordEncoder(cost),
+        poolSize,
+        queueCapacity,
+        Duration.ofMillis(maxWaitMs),
+        retryAfterSeconds,
+        meterRegistry);
   }
 
   @Bean
@@ -55,7 +150,137 @@ public class BeanConfiguration {
 
   @Bean
   public IAuthServicePort authServicePort(
-      IUserPersistencePort userPersistencePort, IPasswordEncoderPort passwordEncoderPort) {
-    return new AuthenticateUserUseCase(userPersistencePort, passwordEncoderPort);
+      IUserPersistencePort userPersistencePort,
+      IPasswordEncoderPort passwordEncoderPort,
+      @Value("${password.bcrypt.upgrade-queue-capacity:256}") int upgradeQueueCapacity,
+      @Value("${auth.credential-cache.enabled:false}") boolean credentialCacheEnabled,
+      @Value("${auth.credential-cache.ttl-seconds:30}") long credentialCacheTtlSeconds,
+      @Value("${auth.credential-cache.max-size:10000}") long credentialCacheMaxSize,
+      MeterRegistry meterRegistry) {
+    IAuthServicePort authenticateUserUseCase =
+        new AuthenticateUserUseCase(
+            userPersistencePort,
+            passwordEncoderPort,
+            passwordUpgradeExecutor(upgradeQueueCapacity));
+    if (!credentialCacheEnabled) {
+      return authenticateUserUseCase;
+    }
+    return new VerifiedCredentialCache(
+        authenticateUserUseCase,
+        userPersistencePort,
+        Duration.ofSeconds(credentialCacheTtlSeconds),
+        credentialCacheMaxSize,
+        meterRegistry);
+  }
+
+  @Bean
+  public IUserImportServicePort userImportServicePort(
+      IUserPersistencePort userPersistencePort,
+      BoundedPasswordEncoder passwordEncoderPort,
+      IDateProviderPort dateProviderPort,
+      @Value("${user-import.hashing-threads:0}") int hashingThreads,
+      @Value("${user-import.batch-size:100}") int batchSize) {
+    // Fuera del pool de login: una importación no debe provocar 503 en login ni recibirlos
+    return new ImportUsersUseCase(
+        userPersistencePort,
+        passwordEncoderPort.onCallingThread(),
+        dateProviderPort,
+        userImportHashingExecutor(hashingThreads, batchSize),
+        batchSize);
+  }
+
+  /**
+   * Runs the hashes of an import chunk, apart from the login hashing pool. By default it takes half
+   * the cores so logins keep the rest; when this queue is full the importing thread hashes the
+   * password itself, which slows the import down instead of failing rows.
+   *
+   * <p>Not a bean, like {@link #passwordUpgradeExecutor}, so Spring Boot keeps its {@code
+   * applicationTaskExecutor}.
+   */
+  private static ExecutorService userImportHashingExecutor(int threads, int batchSize) {
+    int poolSize =
+        threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger sequence = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(batchSize),
+        runnable -> {
+          Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Re-encodes outdated hashes after login. Single thread and a small queue that discards on
+   * overflow: it is best effort and the next login retries.
+   *
+   * <p>Deliberately not a bean: any {@code Executor} bean makes Spring Boot skip its {@code
+   * applicationTaskExecutor}, and MVC async (streaming responses) would fall back to one new
+   * thread per request.
+   */
+  private static ExecutorService passwordUpgradeExecutor(int queueCapacity) {
+    return new ThreadPoolExecutor(
+        1,
+        1,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-upgrade");
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.DiscardPolicy());
+  }
+
+  @Bean
+  public TokenRevocationRegistry tokenRevocationPersistencePort(
+      IRevokedTokenRepository revokedTokenRepository,
+      IUserTokenEpochRepository userTokenEpochRepository,
+      @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions) {
+    return new TokenRevocationRegistry(
+        new TokenRevocationJpaAdapter(revokedTokenRepository, userTokenEpochRepository),
+        expectedInsertions);
+  }
+
+  @Bean
+  public ITokenRevocationServicePort tokenRevocationServicePort(
+      TokenRevocationRegistry tokenRevocationPersistencePort,
+      IUserPersistencePort userPersistencePort) {
+    return new TokenRevocationUseCase(tokenRevocationPersistencePort, userPersistencePort);
+  }
+
+  @Bean
+  public Clock clock() {
+    return Clock.systemUTC();
+  }
+
+  @Bean
+  public IRefreshTokenPersistencePort refreshTokenPersistencePort(
+      @Value("${auth.refresh-token.store:jpa}") String store,
+      IRefreshTokenRepository refreshTokenRepository,
+      IRefreshTokenEntityMapper refreshTokenEntityMapper) {
+    if ("memory".equalsIgnoreCase(store)) {
+      return new RefreshTokenInMemoryAdapter();
+    }
+    return new RefreshTokenJpaAdapter(refreshTokenRepository, refreshTokenEntityMapper);
+  }
+
+  @Bean
+  public IRefreshTokenServicePort refreshTokenServicePort(
+      IRefreshTokenPersistencePort refreshTokenPersistencePort,
+      IUserPersistencePort userPersistencePort,
+      Clock clock,
+      @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationMs) {
+    return new RefreshTokenUseCase(
+        refreshTokenPersistencePort,
+        userPersistencePort,
+        clock,
+        Duration.ofMillis(refreshExpirationMs));
   }
 }
@@ -0,0 +1,88 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.infrastructure.security.JwtAuthenticationFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Primary plus read replica. Read-only transactions (handler methods marked {@code readOnly}) run
+ * on the replica; writes, logins and anything outside a transaction stay on the primary. After a
+ * user write commits, reads of that user and of its caller stay on the primary for a short window
+ * ({@link ReadYourWritesUserPersistenceAdapter}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "persistence.read-replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource primary =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+    return primary;
+  }
+
+  @Bean(destroyMethod = "close")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties properties,
+      @Value("${persistence.read-replica.url}") String url,
+      @Value("${persistence.read-replica.username}") String username,
+      @Value("${persistence.read-replica.password}") String password,
+      @Value("${persistence.read-replica.max-pool-size:10}") int maxPoolSize) {
+    HikariDataSource replica = new HikariDataSource();
+    replica.setPoolName("replica");
+    replica.setDriverClassName(properties.determineDriverClassName());
+    replica.setJdbcUrl(url);
+    replica.setUsername(username);
+    replica.setPassword(password);
+    replica.setMaximumPoolSize(maxPoolSize);
+    replica.setReadOnly(true);
+    return replica;
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(
+      @Value("${persistence.read-replica.read-your-writes-ms:2000}") long windowMs,
+      @Value("${persistence.read-replica.read-your-writes-max-users:100000}") long maxUsers) {
+    return new ReadYourWritesTracker(Duration.ofMillis(windowMs), maxUsers);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReadYourWritesTracker readYourWritesTracker) {
+    ReadWriteRoutingDataSource routing =
+        new ReadWriteRoutingDataSource(
+            primary, replica, readYourWritesTracker, DataSourceRoutingConfiguration::currentUserId);
+    // Sin el proxy la conexión se pediría al abrir la transacción, antes de marcarla readOnly
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  /** Id of the authenticated caller, or {@code null} for anonymous requests. */
+  static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getDetails() instanceof JwtAuthenticationFilter.AuthDetails details
+        && details.getUserId() != null) {
+      try {
+        return Long.valueOf(details.getUserId());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
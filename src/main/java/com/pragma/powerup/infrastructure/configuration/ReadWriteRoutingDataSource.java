@@ -0,0 +1,75 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The lookup
+ * happens when a connection is requested, so this must sit behind a {@code
+ * LazyConnectionDataSourceProxy}: only then is the transaction's read-only flag already set.
+ *
+ * <p>A read-only transaction still goes to the primary when its caller recently committed a user
+ * write, or when it reads a recently written user through {@link #onPrimary}. Both are recorded by
+ * {@link ReadYourWritesUserPersistenceAdapter} when the write commits.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private static final ThreadLocal<Boolean> PRIMARY_REQUESTED = new ThreadLocal<>();
+
+  private final ReadYourWritesTracker tracker;
+  private final Supplier<Long> currentUserId;
+
+  public ReadWriteRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReadYourWritesTracker tracker,
+      Supplier<Long> currentUserId) {
+    this.tracker = tracker;
+    this.currentUserId = currentUserId;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  /**
+   * Runs {@code read} with read-only connections taken from the primary. Only effective while the
+   * transaction has not opened its connection yet, i.e. when this is its first statement.
+   */
+  static <T> T onPrimary(Supplier<T> read) {
+    Boolean previous = PRIMARY_REQUESTED.get();
+    PRIMARY_REQUESTED.set(Boolean.TRUE);
+    try {
+      return read.get();
+    } finally {
+      if (previous == null) {
+        PRIMARY_REQUESTED.remove();
+      } else {
+        PRIMARY_REQUESTED.set(previous);
+      }
+    }
+  }
+
+  static boolean isPrimaryRequested() {
+    return PRIMARY_REQUESTED.get() != null;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      // Escritura (o sin transacción): primario. No marca al llamante: eso se hace al confirmar
+      return Route.PRIMARY;
+    }
+    if (isPrimaryRequested() || tracker.mustReadFromPrimary(currentUserId.get())) {
+      return Route.PRIMARY;
+    }
+    return Route.REPLICA;
+  }
+}
@@ -0,0 +1,65 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers which users changed recently, and which callers changed them, so reads about them
+ * keep going to the primary until the replica has had time to catch up. Writes are recorded when
+ * their transaction commits, not when it opens a connection: a read-write transaction that
+ * changed no user pins nobody. A window of zero disables it.
+ */
+public class ReadYourWritesTracker {
+
+  private final Cache<Long, Boolean> recentWriters;
+
+  public ReadYourWritesTracker(Duration window, long maxUsers) {
+    this.recentWriters =
+        window.isZero()
+            ? null
+            : Caffeine.newBuilder().expireAfterWrite(window).maximumSize(maxUsers).build();
+  }
+
+  public void recordWrite(Long userId) {
+    if (recentWriters != null && userId != null) {
+      recentWriters.put(userId, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Records {@code userIds} once the current transaction commits, or right away outside one. A
+   * rolled back write never pins anybody.
+   */
+  public void recordWriteAfterCommit(Collection<Long> userIds) {
+    if (recentWriters == null) {
+      return;
+    }
+    List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      ids.forEach(this::recordWrite);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            ids.forEach(ReadYourWritesTracker.this::recordWrite);
+          }
+        });
+  }
+
+  public boolean mustReadFromPrimary(Long userId) {
+    return recentWriters != null
+        && userId != null
+        && recentWriters.getIfPresent(userId) != null;
+  }
+}
@@ -0,0 +1,157 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Feeds {@link ReadYourWritesTracker} from the user writes themselves. When a write commits, the
+ * written user ids and the caller who wrote them are recorded; later reads of those ids, and every
+ * read of that caller, go to the primary for the tracker's window. This covers an admin reading
+ * the owner they just created and anonymous registrations, which have no caller to key on.
+ *
+ * <p>Lookups by email are not keyed: only ids are tracked.
+ */
+public class ReadYourWritesUserPersistenceAdapter implements IUserPersistencePort {
+
+  private final IUserPersistencePort delegate;
+  private final ReadYourWritesTracker tracker;
+  private final Supplier<Long> currentUserId;
+
+  public ReadYourWritesUserPersistenceAdapter(
+      IUserPersistencePort delegate, ReadYourWritesTracker tracker, Supplier<Long> currentUserId) {
+    this.delegate = delegate;
+    this.tracker = tracker;
+    this.currentUserId = currentUserId;
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return delegate.existsByEmail(email);
+  }
+
+  @Override
+  public boolean existsByDocument(String document) {
+    return delegate.existsByDocument(document);
+  }
+
+  @Override
+  public UserModel save(UserModel user) {
+    UserModel saved = delegate.save(user);
+    if (saved != null) {
+      recordAfterCommit(List.of(saved));
+    }
+    return saved;
+  }
+
+  @Override
+  public List<UserModel> saveAll(List<UserModel> users) {
+    List<UserModel> saved = delegate.saveAll(users);
+    recordAfterCommit(saved);
+    return saved;
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    return delegate.findExistingEmails(emails);
+  }
+
+  @Override
+  public Set<String> findExistingDocuments(Collection<String> documents) {
+    return delegate.findExistingDocuments(documents);
+  }
+
+  @Override
+  public UserModel findByEmail(String email) {
+    return delegate.findByEmail(email);
+  }
+
+  @Override
+  public UserModel findCredentialsByEmail(String email) {
+    return delegate.findCredentialsByEmail(email);
+  }
+
+  @Override
+  public UserModel findById(Long id) {
+    if (tracker.mustReadFromPrimary(id)) {
+      return ReadWriteRoutingDataSource.onPrimary(() -> delegate.findById(id));
+    }
+    return delegate.findById(id);
+  }
+
+  @Override
+  public void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    if (anyRecentlyWritten(ids)) {
+      ReadWriteRoutingDataSource.onPrimary(
+          () -> {
+            delegate.findAllByIds(ids, consumer);
+            return null;
+          });
+      return;
+    }
+    delegate.findAllByIds(ids, consumer);
+  }
+
+  @Override
+  public boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    if (tracker.mustReadFromPrimary(userId)) {
+      return ReadWriteRoutingDataSource.onPrimary(
+          () -> delegate.existsEmployeeOfRestaurant(userId, restaurantId));
+    }
+    return delegate.existsEmployeeOfRestaurant(userId, restaurantId);
+  }
+
+  @Override
+  public Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    if (anyRecentlyWritten(userIds)) {
+      return ReadWriteRoutingDataSource.onPrimary(
+          () -> delegate.findRestaurantIdsOfEmployees(userIds));
+    }
+    return delegate.findRestaurantIdsOfEmployees(userIds);
+  }
+
+  @Override
+  public List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit) {
+    return delegate.findPage(filter, afterId, limit);
+  }
+
+  @Override
+  public void streamAll(Consumer<UserModel> consumer) {
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public boolean updatePassword(Long id, String currentEncoded, String newEncoded) {
+    boolean updated = delegate.updatePassword(id, currentEncoded, newEncoded);
+    if (updated) {
+      tracker.recordWriteAfterCommit(List.of(id));
+    }
+    return updated;
+  }
+
+  private void recordAfterCommit(List<UserModel> saved) {
+    List<Long> ids = new ArrayList<>(saved.size() + 1);
+    for (UserModel user : saved) {
+      ids.add(user.getId());
+    }
+    // Quien escribe también lee del primario: sus listados deben incluir lo que acaba de crear
+    ids.add(currentUserId.get());
+    tracker.recordWriteAfterCommit(ids);
+  }
+
+  private boolean anyRecentlyWritten(Collection<Long> ids) {
+    for (Long id : ids) {
+      if (tracker.mustReadFromPrimary(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,19 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.domain.api.IRefreshTokenServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Deletes expired refresh tokens so the store does not grow with every login. */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupTask {
+
+  private final IRefreshTokenServicePort refreshTokenServicePort;
+
+  @Scheduled(fixedDelayString = "${auth.refresh-token.cleanup-interval-ms:3600000}")
+  public void purgeExpired() {
+    refreshTokenServicePort.purgeExpired();
+  }
+}
@@ -0,0 +1,15 @@
+package com.pragma.powerup.infrastructure.exception;
+
+import lombok.Getter;
+
+/** The password-hashing pool is saturated; the client should retry after a short pause. */
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
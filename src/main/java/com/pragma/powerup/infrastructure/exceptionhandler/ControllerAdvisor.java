@@ -2,9 +2,11 @@ package com.pragma.powerup.infrastructure.exceptionhandler;
 
 import com.pragma.powerup.domain.exception.DomainException;
 import com.pragma.powerup.infrastructure.exception.NoDataFoundException;
+import com.pragma.powerup.infrastructure.exception.PasswordHashingUnavailableException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +31,14 @@ public class ControllerAdvisor {
         .body(Collections.singletonMap(MESSAGE, ex.getMessage()));
   }
 
+  @ExceptionHandler(PasswordHashingUnavailableException.class)
+  public ResponseEntity<Map<String, String>> handlePasswordHashingUnavailableException(
+      PasswordHashingUnavailableException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(Collections.singletonMap(MESSAGE, ex.getMessage()));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, String>> handleValidationException(
       MethodArgumentNotValidException ex) {
@@ -1,11 +1,17 @@
 package com.pragma.powerup.infrastructure.input.rest;
 
 import com.pragma.powerup.application.dto.request.LoginRequestDto;
+import com.pragma.powerup.application.dto.request.RefreshTokenRequestDto;
 import com.pragma.powerup.application.dto.response.AuthResponseDto;
 import com.pragma.powerup.application.handler.IAuthHandler;
+import com.pragma.powerup.infrastructure.security.JwtAuthenticationFilter;
+import com.pragma.powerup.infrastructure.security.RoleConstants;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,4 +28,47 @@ public class AuthRestController {
   public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
     return ResponseEntity.ok(authHandler.login(request));
   }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<AuthResponseDto> refresh(
+      @Valid @RequestBody RefreshTokenRequestDto request) {
+    return ResponseEntity.ok(authHandler.refresh(request));
+  }
+
+  /**
+   * Revokes the access token of the request. The body may carry the session's refresh token
+   * ({@code {"refreshToken": "..."}}); its whole family is revoked too, otherwise the session could
+   * keep minting access tokens after the logout.
+   */
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(
+      Authentication authentication,
+      @RequestBody(required = false) RefreshTokenRequestDto request) {
+    if (authentication != null
+        && authentication.getDetails() instanceof JwtAuthenticationFilter.AuthDetails details) {
+      authHandler.logout(
+          details.getTokenId(),
+          details.getUserId() != null ? Long.valueOf(details.getUserId()) : null,
+          details.getExpiresAt(),
+          request != null ? request.getRefreshToken() : null);
+    }
+    return ResponseEntity.noContent().build();
+  }
+
+  @PostMapping("/logout-all")
+  public ResponseEntity<Void> logoutAll(Authentication authentication) {
+    if (authentication != null
+        && authentication.getDetails() instanceof JwtAuthenticationFilter.AuthDetails details
+        && details.getUserId() != null) {
+      authHandler.revokeAllTokens(Long.valueOf(details.getUserId()));
+    }
+    return ResponseEntity.noContent().build();
+  }
+
+  @PostMapping("/users/{userId}/revoke-tokens")
+  @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+  public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+    authHandler.revokeAllTokens(userId);
+    return ResponseEntity.noContent().build();
+  }
 }
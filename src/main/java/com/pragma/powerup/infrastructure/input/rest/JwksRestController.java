@@ -0,0 +1,25 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.pragma.powerup.infrastructure.security.JwtKeyRing;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksRestController {
+
+  private final JwtKeyRing keyRing;
+
+  /** Public keys for offline verification by peer services (orders, messaging, restaurants). */
+  @GetMapping("/.well-known/jwks.json")
+  public ResponseEntity<Map<String, Object>> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+        .body(keyRing.jwks());
+  }
+}
@@ -0,0 +1,66 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.pragma.powerup.application.dto.response.UserExportDto;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes export rows as CSV with the same column names the bulk import reads. Fields containing a
+ * comma, a quote or a line break are quoted, with {@code ""} as the escape.
+ */
+final class UserCsvWriter {
+
+  static final String HEADER =
+      "id,firstName,lastName,document,phone,birthDate,email,role,active,restaurantId";
+
+  private final Writer writer;
+
+  UserCsvWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  void writeHeader() throws IOException {
+    writer.write(HEADER);
+    writer.write('\n');
+  }
+
+  void write(UserExportDto user) throws IOException {
+    field(user.getId(), true);
+    field(user.getFirstName(), true);
+    field(user.getLastName(), true);
+    field(user.getDocument(), true);
+    field(user.getPhone(), true);
+    field(user.getBirthDate(), true);
+    field(user.getEmail(), true);
+    field(user.getRole(), true);
+    field(user.getActive(), true);
+    field(user.getRestaurantId(), false);
+    writer.write('\n');
+  }
+
+  private void field(Object value, boolean separator) throws IOException {
+    if (value != null) {
+      String text = value.toString();
+      if (needsQuotes(text)) {
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+      } else {
+        writer.write(text);
+      }
+    }
+    if (separator) {
+      writer.write(',');
+    }
+  }
+
+  private static boolean needsQuotes(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
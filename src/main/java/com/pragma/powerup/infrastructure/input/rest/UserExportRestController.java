@@ -0,0 +1,113 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.pragma.powerup.application.dto.request.UserExportFormat;
+import com.pragma.powerup.application.handler.IUserExportHandler;
+import com.pragma.powerup.infrastructure.security.RoleConstants;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class UserExportRestController {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final IUserExportHandler userExportHandler;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Full user directory, written while the table is read, so memory stays flat whatever its size.
+   * Gzip-compressed when the client sends {@code Accept-Encoding: gzip}.
+   */
+  @GetMapping("/export")
+  @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+  public ResponseEntity<StreamingResponseBody> exportUsers(
+      @RequestParam(defaultValue = "NDJSON") UserExportFormat format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+          String acceptEncoding) {
+    boolean csv = format == UserExportFormat.CSV;
+    boolean gzip =
+        acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    StreamingResponseBody body =
+        out -> {
+          try (OutputStream target =
+              gzip
+                  ? new GZIPOutputStream(out, BUFFER_SIZE)
+                  : new BufferedOutputStream(out, BUFFER_SIZE)) {
+            if (csv) {
+              writeCsv(target);
+            } else {
+              writeNdjson(target);
+            }
+          } catch (UncheckedIOException e) {
+            // Cliente desconectado a mitad de la exportación
+            throw e.getCause();
+          }
+        };
+    String mediaType =
+        csv ? UserImportRestController.CSV_VALUE : UserImportRestController.NDJSON_VALUE;
+    ContentDisposition attachment =
+        ContentDisposition.attachment().filename(csv ? "users.csv" : "users.ndjson").build();
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(mediaType))
+            .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
+  }
+
+  private void writeNdjson(OutputStream out) throws IOException {
+    try (SequenceWriter users =
+        objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+      userExportHandler.exportUsers(
+          user -> {
+            try {
+              users.write(user);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+  }
+
+  private void writeCsv(OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    UserCsvWriter csv = new UserCsvWriter(writer);
+    csv.writeHeader();
+    userExportHandler.exportUsers(
+        user -> {
+          try {
+            csv.write(user);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    writer.flush();
+  }
+}
@@ -0,0 +1,66 @@
+package com.pragma.powerup.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.pragma.powerup.application.dto.request.UserImportFormat;
+import com.pragma.powerup.application.handler.IUserImportHandler;
+import com.pragma.powerup.infrastructure.security.RoleConstants;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+public class UserImportRestController {
+
+  static final String NDJSON_VALUE = "application/x-ndjson";
+  static final String CSV_VALUE = "text/csv";
+
+  private final IUserImportHandler userImportHandler;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Bulk import. The request body is read while the response is written: one NDJSON result per
+   * input line ({@code line}, {@code status}, {@code id} or {@code message}).
+   */
+  @PostMapping(
+      value = "/import",
+      consumes = {NDJSON_VALUE, CSV_VALUE},
+      produces = NDJSON_VALUE)
+  @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+  public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request) {
+    UserImportFormat format =
+        MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(CSV_VALUE))
+            ? UserImportFormat.CSV
+            : UserImportFormat.NDJSON;
+    StreamingResponseBody body =
+        out -> {
+          try (SequenceWriter results =
+              objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+            userImportHandler.importUsers(
+                request.getInputStream(),
+                format,
+                result -> {
+                  try {
+                    results.write(result);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+  }
+}
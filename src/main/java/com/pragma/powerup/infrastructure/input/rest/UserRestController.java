@@ -1,13 +1,23 @@
 package com.pragma.powerup.infrastructure.input.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.request.EmployeeCheckRequestDto;
+import com.pragma.powerup.application.dto.request.UserBatchRequestDto;
 import com.pragma.powerup.application.dto.request.UserEmployeeRequestDto;
 import com.pragma.powerup.application.dto.request.UserRequestDto;
+import com.pragma.powerup.application.dto.response.UserPageResponseDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
 import com.pragma.powerup.application.handler.IUserHandler;
 import com.pragma.powerup.infrastructure.security.RoleConstants;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,7 +25,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -23,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserRestController {
 
   private final IUserHandler userHandler;
+  private final ObjectMapper objectMapper;
 
   @PostMapping("/owner")
   @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
@@ -52,10 +65,73 @@ public class UserRestController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Resolves many users with one query. The body is written while rows are read: {@code
+   * {"users":[...],"missingIds":[...]}}.
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<StreamingResponseBody> getUsersByIds(
+      @Valid @RequestBody UserBatchRequestDto request) {
+    List<Long> ids = request.getIds();
+    StreamingResponseBody body = out -> writeUsers(ids, out);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
   @GetMapping("/{userId}/restaurant/{restaurantId}/is-employee")
   public ResponseEntity<Boolean> isEmployeeOfRestaurant(
       @PathVariable Long userId, @PathVariable Long restaurantId) {
     boolean isEmployee = userHandler.isEmployeeOfRestaurant(userId, restaurantId);
     return ResponseEntity.ok(isEmployee);
   }
+
+  @PostMapping("/employees/check")
+  public ResponseEntity<List<Boolean>> areEmployeesOfRestaurants(
+      @Valid @RequestBody EmployeeCheckRequestDto request) {
+    return ResponseEntity.ok(userHandler.areEmployeesOfRestaurants(request));
+  }
+
+  /**
+   * Lists users by id with keyset pagination; {@code cursor} is the {@code nextCursor} of the
+   * previous page.
+   */
+  @GetMapping
+  @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+  public ResponseEntity<UserPageResponseDto> listUsers(
+      @RequestParam(required = false) String role,
+      @RequestParam(required = false) Long restaurantId,
+      @RequestParam(required = false) Boolean active,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    return ResponseEntity.ok(userHandler.listUsers(role, restaurantId, active, cursor, size));
+  }
+
+  private void writeUsers(List<Long> ids, OutputStream out) throws IOException {
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("users");
+      List<Long> missingIds;
+      try {
+        missingIds =
+            userHandler.getUsersByIds(
+                ids,
+                user -> {
+                  try {
+                    generator.writeObject(user);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+      } catch (UncheckedIOException e) {
+        // Cliente desconectado a mitad de respuesta
+        throw e.getCause();
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("missingIds");
+      for (Long id : missingIds) {
+        generator.writeNumber(id);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
 }
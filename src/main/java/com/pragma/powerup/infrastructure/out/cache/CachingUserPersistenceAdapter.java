@@ -0,0 +1,295 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache in front of another {@link IUserPersistencePort}. Users are cached by id and
+ * an email index points at the id, both in size- and TTL-bounded Caffeine (W-TinyLFU) caches.
+ * Callers always get copies, so mutating a returned model never corrupts the cache.
+ *
+ * <p>{@link #save} only evicts inside the caller's transaction; the saved user is cached once the
+ * transaction commits, so no other request can read a user that does not exist yet or that a
+ * rollback discards. The fill updates both indexes inside a single {@code compute} on the id entry,
+ * so concurrent loads of the same user cannot interleave with it.
+ *
+ * <p>Every committed write is also published on an {@link IUserInvalidationTransport}; the other
+ * nodes evict the user on receipt so they never serve a stale role or {@code active} flag for
+ * longer than the notification takes to arrive.
+ */
+public class CachingUserPersistenceAdapter implements IUserPersistencePort {
+
+  static final String BY_ID_CACHE = "users.by-id";
+  static final String BY_EMAIL_CACHE = "users.by-email";
+
+  private final IUserPersistencePort delegate;
+  private final Cache<Long, UserModel> byId;
+  private final Cache<String, Long> idByEmail;
+  private final IUserInvalidationTransport transport;
+  private final String nodeId;
+
+  public CachingUserPersistenceAdapter(
+      IUserPersistencePort delegate, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+    this(
+        delegate,
+        maxSize,
+        ttl,
+        meterRegistry,
+        new InJvmUserInvalidationTransport(),
+        UUID.randomUUID().toString());
+  }
+
+  public CachingUserPersistenceAdapter(
+      IUserPersistencePort delegate,
+      long maxSize,
+      Duration ttl,
+      MeterRegistry meterRegistry,
+      IUserInvalidationTransport transport,
+      String nodeId) {
+    this.delegate = delegate;
+    this.transport = transport;
+    this.nodeId = nodeId;
+    this.byId =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    this.idByEmail =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, BY_ID_CACHE);
+    CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, BY_EMAIL_CACHE);
+    transport.subscribe(this::onInvalidation);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    // Un email indexado existe; la ausencia en caché no prueba nada
+    return idByEmail.getIfPresent(email) != null || delegate.existsByEmail(email);
+  }
+
+  @Override
+  public boolean existsByDocument(String document) {
+    return delegate.existsByDocument(document);
+  }
+
+  @Override
+  public UserModel save(UserModel user) {
+    UserModel saved = delegate.save(user);
+    if (saved == null || saved.getId() == null) {
+      return saved;
+    }
+    remember(saved);
+    return copy(saved);
+  }
+
+  @Override
+  public List<UserModel> saveAll(List<UserModel> users) {
+    List<UserModel> saved = delegate.saveAll(users);
+    List<UserModel> copies = new ArrayList<>(saved.size());
+    for (UserModel user : saved) {
+      remember(user);
+      copies.add(copy(user));
+    }
+    return copies;
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    return delegate.findExistingEmails(emails);
+  }
+
+  @Override
+  public Set<String> findExistingDocuments(Collection<String> documents) {
+    return delegate.findExistingDocuments(documents);
+  }
+
+  private void remember(UserModel saved) {
+    // Hasta el commit el usuario guardado solo existe para esta transacción: aquí solo se expulsa
+    UserModel previous = byId.getIfPresent(saved.getId());
+    if (previous != null) {
+      idByEmail.invalidate(previous.getEmail());
+    }
+    invalidate(saved.getId(), saved.getEmail());
+    UserModel committed = copy(saved);
+    UserInvalidation invalidation =
+        new UserInvalidation(nodeId, saved.getId(), saved.getEmail(), saved.getDocument());
+    afterCommit(
+        () -> {
+          fill(committed);
+          transport.publish(invalidation);
+        });
+  }
+
+  private void fill(UserModel saved) {
+    byId.asMap()
+        .compute(
+            saved.getId(),
+            (id, previous) -> {
+              if (previous != null && !previous.getEmail().equals(saved.getEmail())) {
+                idByEmail.invalidate(previous.getEmail());
+              }
+              idByEmail.put(saved.getEmail(), id);
+              return copy(saved);
+            });
+  }
+
+  @Override
+  public UserModel findByEmail(String email) {
+    Long id = idByEmail.get(email, this::loadIdByEmail);
+    if (id == null) {
+      return null;
+    }
+    UserModel user = findById(id);
+    if (user == null || !email.equals(user.getEmail())) {
+      // Índice desfasado (usuario expulsado o email cambiado): se descarta y se va a la fuente
+      idByEmail.invalidate(email);
+      return delegate.findByEmail(email);
+    }
+    return user;
+  }
+
+  @Override
+  public UserModel findCredentialsByEmail(String email) {
+    // El usuario completo en caché ya contiene las credenciales
+    return findByEmail(email);
+  }
+
+  @Override
+  public UserModel findById(Long id) {
+    UserModel cached = byId.get(id, this::loadById);
+    return cached != null ? copy(cached) : null;
+  }
+
+  @Override
+  public void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    List<Long> misses = new ArrayList<>();
+    for (Long id : ids) {
+      UserModel cached = byId.getIfPresent(id);
+      if (cached != null) {
+        consumer.accept(copy(cached));
+      } else {
+        misses.add(id);
+      }
+    }
+    if (misses.isEmpty()) {
+      return;
+    }
+    delegate.findAllByIds(
+        misses,
+        user -> {
+          byId.asMap().putIfAbsent(user.getId(), copy(user));
+          consumer.accept(copy(user));
+        });
+  }
+
+  @Override
+  public boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    // Solo se aprovecha una entrada ya cacheada; un fallo no merece cargar el usuario entero
+    UserModel cached = byId.getIfPresent(userId);
+    if (cached == null) {
+      return delegate.existsEmployeeOfRestaurant(userId, restaurantId);
+    }
+    return cached.getRole() == RoleEnum.EMPLOYEE && restaurantId.equals(cached.getRestaurantId());
+  }
+
+  @Override
+  public Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    return delegate.findRestaurantIdsOfEmployees(userIds);
+  }
+
+  @Override
+  public List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit) {
+    // Los listados no pasan por la caché: cada página es una consulta por índice
+    return delegate.findPage(filter, afterId, limit);
+  }
+
+  @Override
+  public void streamAll(Consumer<UserModel> consumer) {
+    // Sin contraseña: estos usuarios no pueden entrar en la caché
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public boolean updatePassword(Long id, String currentEncoded, String newEncoded) {
+    boolean updated = delegate.updatePassword(id, currentEncoded, newEncoded);
+    if (updated) {
+      byId.invalidate(id);
+      UserInvalidation invalidation = new UserInvalidation(nodeId, id, null, null);
+      afterCommit(() -> transport.publish(invalidation));
+    }
+    return updated;
+  }
+
+  private UserModel loadById(Long id) {
+    UserModel loaded = delegate.findById(id);
+    return loaded != null ? copy(loaded) : null;
+  }
+
+  private Long loadIdByEmail(String email) {
+    UserModel loaded = delegate.findByEmail(email);
+    if (loaded == null) {
+      return null;
+    }
+    byId.asMap().putIfAbsent(loaded.getId(), copy(loaded));
+    return loaded.getId();
+  }
+
+  void invalidate(Long id, String email) {
+    if (id != null) {
+      byId.invalidate(id);
+    }
+    if (email != null) {
+      idByEmail.invalidate(email);
+    }
+  }
+
+  private void onInvalidation(UserInvalidation invalidation) {
+    // Las escrituras propias ya actualizaron la caché local
+    if (!nodeId.equals(invalidation.nodeId())) {
+      invalidate(invalidation.userId(), invalidation.email());
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  static UserModel copy(UserModel source) {
+    UserModel copy = new UserModel();
+    copy.setId(source.getId());
+    copy.setFirstName(source.getFirstName());
+    copy.setLastName(source.getLastName());
+    copy.setDocument(source.getDocument());
+    copy.setPhone(source.getPhone());
+    copy.setBirthDate(source.getBirthDate());
+    copy.setEmail(source.getEmail());
+    copy.setPassword(source.getPassword());
+    copy.setRole(source.getRole());
+    copy.setActive(source.getActive());
+    copy.setRestaurantId(source.getRestaurantId());
+    return copy;
+  }
+}
@@ -0,0 +1,14 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out channel for {@link UserInvalidation} messages between service nodes. Implementations
+ * deliver every published message to every subscriber, including those on the publishing node.
+ */
+public interface IUserInvalidationTransport {
+
+  void publish(UserInvalidation invalidation);
+
+  void subscribe(Consumer<UserInvalidation> listener);
+}
@@ -0,0 +1,33 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process hub: delivers messages synchronously to every subscriber in this JVM. With a single
+ * node it is all that is needed; sharing one instance between several cache decorators simulates
+ * a multi-node deployment in tests without a broker.
+ */
+@Slf4j
+public class InJvmUserInvalidationTransport implements IUserInvalidationTransport {
+
+  private final List<Consumer<UserInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(UserInvalidation invalidation) {
+    for (Consumer<UserInvalidation> listener : listeners) {
+      try {
+        listener.accept(invalidation);
+      } catch (RuntimeException e) {
+        log.warn("User cache invalidation listener failed", e);
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<UserInvalidation> listener) {
+    listeners.add(listener);
+  }
+}
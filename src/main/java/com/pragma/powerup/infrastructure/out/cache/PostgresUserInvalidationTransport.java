@@ -0,0 +1,126 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Transport over Postgres {@code LISTEN/NOTIFY}: no broker beyond the database every node already
+ * shares. Publishing is a {@code pg_notify} on a pooled connection; listening holds one dedicated
+ * connection polled by a daemon thread, started on the first {@link #subscribe}.
+ *
+ * <p>NOTIFY is fire-and-forget: a node that is disconnected while a message is sent misses it. The
+ * listener therefore reconnects with backoff and the cache TTL bounds how long such a miss can
+ * last.
+ */
+@Slf4j
+public class PostgresUserInvalidationTransport
+    implements IUserInvalidationTransport, AutoCloseable {
+
+  private static final int POLL_TIMEOUT_MS = 500;
+  private static final long MAX_BACKOFF_MS = 30_000;
+
+  private final DataSource dataSource;
+  private final String channel;
+  private final List<Consumer<UserInvalidation>> listeners = new CopyOnWriteArrayList<>();
+  private volatile Thread listenerThread;
+  private volatile boolean running = true;
+
+  public PostgresUserInvalidationTransport(DataSource dataSource, String channel) {
+    if (!channel.matches("[a-z_][a-z0-9_]*")) {
+      // LISTEN no admite parámetros, el nombre va concatenado en la sentencia
+      throw new IllegalArgumentException("Invalid notification channel: " + channel);
+    }
+    this.dataSource = dataSource;
+    this.channel = channel;
+  }
+
+  @Override
+  public void publish(UserInvalidation invalidation) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+      statement.setString(1, channel);
+      statement.setString(2, invalidation.encode());
+      statement.execute();
+    } catch (SQLException e) {
+      // La entrada remota caduca igualmente por TTL; no se hace fallar la escritura
+      log.warn("Could not publish user cache invalidation for user {}", invalidation.userId(), e);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(Consumer<UserInvalidation> listener) {
+    listeners.add(listener);
+    if (listenerThread == null) {
+      listenerThread = new Thread(this::listenLoop, "user-cache-invalidation");
+      listenerThread.setDaemon(true);
+      listenerThread.start();
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    Thread thread = listenerThread;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  private void listenLoop() {
+    long backoffMs = 100;
+    while (running) {
+      try (Connection connection = dataSource.getConnection()) {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        backoffMs = 100;
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              dispatch(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("User cache invalidation listener lost its connection, retrying", e);
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+      }
+    }
+  }
+
+  private void dispatch(String payload) {
+    UserInvalidation invalidation = UserInvalidation.decode(payload);
+    if (invalidation == null) {
+      log.warn("Ignoring malformed user cache invalidation payload");
+      return;
+    }
+    for (Consumer<UserInvalidation> listener : listeners) {
+      try {
+        listener.accept(invalidation);
+      } catch (RuntimeException e) {
+        log.warn("User cache invalidation listener failed", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.pragma.powerup.infrastructure.out.cache;
+
+/**
+ * Cache invalidation message emitted after a user write. Identifies the user by id, email and
+ * document so every cache can evict whatever index it keeps. {@link #encode()} produces a compact
+ * single-line payload that fits comfortably in a Postgres {@code NOTIFY} (8000 bytes max).
+ */
+public record UserInvalidation(String nodeId, Long userId, String email, String document) {
+
+  // Separador de unidad ASCII: no puede aparecer en emails ni documentos válidos
+  private static final char SEPARATOR = '\u001f';
+
+  public String encode() {
+    return nodeId
+        + SEPARATOR
+        + (userId != null ? userId : "")
+        + SEPARATOR
+        + (email != null ? email : "")
+        + SEPARATOR
+        + (document != null ? document : "");
+  }
+
+  /** Parses a payload produced by {@link #encode()}; returns {@code null} if it is malformed. */
+  public static UserInvalidation decode(String payload) {
+    if (payload == null) {
+      return null;
+    }
+    String[] parts = payload.split(String.valueOf(SEPARATOR), -1);
+    if (parts.length != 4) {
+      return null;
+    }
+    try {
+      Long userId = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+      return new UserInvalidation(parts[0], userId, emptyToNull(parts[2]), emptyToNull(parts[3]));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String emptyToNull(String value) {
+    return value.isEmpty() ? null : value;
+  }
+}
@@ -0,0 +1,321 @@
+package com.pragma.powerup.infrastructure.out.jdbc;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link IUserPersistencePort} on plain JDBC for the hot read paths: no persistence context, no
+ * dirty checking and no entity in between, each row becomes a {@link UserModel} straight from the
+ * {@link ResultSet}. Same schema, ids and error translation as the JPA adapter, so both can serve
+ * the same database.
+ */
+public class UserJdbcAdapter implements IUserPersistencePort {
+
+  /** Same block size as the {@code users_seq} generator of the JPA entity (pooled-lo). */
+  static final int ID_BLOCK_SIZE = 50;
+
+  private static final int EXPORT_FETCH_SIZE = 1000;
+
+  // Orden fijo: los RowMapper leen por posición, sin buscar la columna por nombre en cada fila
+  private static final String COLUMNS =
+      "id, first_name, last_name, document, phone, birth_date, email, role, active, restaurant_id,"
+          + " password";
+  private static final String EXPORT_COLUMNS =
+      "id, first_name, last_name, document, phone, birth_date, email, role, active, restaurant_id";
+  private static final String INSERT =
+      "INSERT INTO users (first_name, last_name, document, phone, birth_date, email, role, active,"
+          + " restaurant_id, password, id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String UPDATE =
+      "UPDATE users SET first_name = ?, last_name = ?, document = ?, phone = ?, birth_date = ?,"
+          + " email = ?, role = ?, active = ?, restaurant_id = ?, password = ? WHERE id = ?";
+
+  private static final RowMapper<UserModel> USER =
+      (rs, rowNum) -> {
+        UserModel user = toExport(rs);
+        user.setPassword(rs.getString(11));
+        return user;
+      };
+  private static final RowMapper<UserModel> CREDENTIALS =
+      (rs, rowNum) -> {
+        UserModel user = new UserModel();
+        user.setId(rs.getLong(1));
+        user.setEmail(rs.getString(2));
+        user.setPassword(rs.getString(3));
+        user.setRole(toRole(rs.getString(4)));
+        user.setActive(rs.getBoolean(5));
+        return user;
+      };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcClient jdbcClient;
+  private final TransactionTemplate transactionTemplate;
+
+  public UserJdbcAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return exists("SELECT 1 FROM users WHERE email = ? LIMIT 1", email);
+  }
+
+  @Override
+  public boolean existsByDocument(String document) {
+    return exists("SELECT 1 FROM users WHERE document = ? LIMIT 1", document);
+  }
+
+  @Override
+  public UserModel save(UserModel user) {
+    try {
+      if (user.getId() == null || jdbcTemplate.update(UPDATE, values(user, user.getId())) == 0) {
+        // Como el merge de JPA: un id que no existe se inserta con uno nuevo
+        long id = nextIdBlock();
+        jdbcTemplate.update(INSERT, values(user, id));
+        user.setId(id);
+      }
+      return user;
+    } catch (DataIntegrityViolationException e) {
+      throw UserJpaAdapter.translate(e);
+    }
+  }
+
+  @Override
+  public List<UserModel> saveAll(List<UserModel> users) {
+    return transactionTemplate.execute(
+        status -> {
+          // Un nextval por bloque de 50, igual que pooled-lo en Hibernate
+          List<Object[]> rows = new ArrayList<>(users.size());
+          long next = 0;
+          long blockEnd = 0;
+          for (UserModel user : users) {
+            if (next == blockEnd) {
+              next = nextIdBlock();
+              blockEnd = next + ID_BLOCK_SIZE;
+            }
+            user.setId(next++);
+            rows.add(values(user, user.getId()));
+          }
+          jdbcTemplate.batchUpdate(INSERT, rows);
+          return users;
+        });
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return new HashSet<>();
+    }
+    return new HashSet<>(
+        jdbcClient
+            .sql("SELECT email FROM users WHERE email IN (:values)")
+            .param("values", emails)
+            .query(String.class)
+            .list());
+  }
+
+  @Override
+  public Set<String> findExistingDocuments(Collection<String> documents) {
+    if (documents.isEmpty()) {
+      return new HashSet<>();
+    }
+    return new HashSet<>(
+        jdbcClient
+            .sql("SELECT document FROM users WHERE document IN (:values)")
+            .param("values", documents)
+            .query(String.class)
+            .list());
+  }
+
+  @Override
+  public UserModel findByEmail(String email) {
+    return jdbcClient
+        .sql("SELECT " + COLUMNS + " FROM users WHERE email = ?")
+        .param(email)
+        .query(USER)
+        .optional()
+        .orElse(null);
+  }
+
+  @Override
+  public UserModel findCredentialsByEmail(String email) {
+    return jdbcClient
+        .sql("SELECT id, email, password, role, active FROM users WHERE email = ?")
+        .param(email)
+        .query(CREDENTIALS)
+        .optional()
+        .orElse(null);
+  }
+
+  @Override
+  public UserModel findById(Long id) {
+    return jdbcClient
+        .sql("SELECT " + COLUMNS + " FROM users WHERE id = ?")
+        .param(id)
+        .query(USER)
+        .optional()
+        .orElse(null);
+  }
+
+  @Override
+  public void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    jdbcClient
+        .sql("SELECT " + COLUMNS + " FROM users WHERE id IN (:ids)")
+        .param("ids", ids)
+        .query((RowCallbackHandler) rs -> consumer.accept(USER.mapRow(rs, 0)));
+  }
+
+  @Override
+  public boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    return !jdbcClient
+        .sql(
+            "SELECT 1 FROM users WHERE id = ? AND role = 'EMPLOYEE' AND restaurant_id = ?"
+                + " LIMIT 1")
+        .params(userId, restaurantId)
+        .query(Integer.class)
+        .list()
+        .isEmpty();
+  }
+
+  @Override
+  public Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    Map<Long, Long> restaurantIds = new HashMap<>();
+    if (userIds.isEmpty()) {
+      return restaurantIds;
+    }
+    jdbcClient
+        .sql(
+            "SELECT id, restaurant_id FROM users WHERE id IN (:ids) AND role = 'EMPLOYEE'"
+                + " AND restaurant_id IS NOT NULL")
+        .param("ids", userIds)
+        .query(
+            (RowCallbackHandler) rs -> restaurantIds.put(rs.getLong(1), rs.getLong(2)));
+    return restaurantIds;
+  }
+
+  @Override
+  public List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit) {
+    // Mismo criterio que UserSpecifications: solo entran los filtros informados
+    List<String> conditions = new ArrayList<>();
+    Map<String, Object> params = new LinkedHashMap<>();
+    if (afterId != null) {
+      conditions.add("id > :afterId");
+      params.put("afterId", afterId);
+    }
+    if (filter.getRole() != null) {
+      conditions.add("role = :role");
+      params.put("role", filter.getRole().name());
+    }
+    if (filter.getRestaurantId() != null) {
+      conditions.add("restaurant_id = :restaurantId");
+      params.put("restaurantId", filter.getRestaurantId());
+    }
+    if (filter.getActive() != null) {
+      conditions.add("active = :active");
+      params.put("active", filter.getActive());
+    }
+    params.put("limit", limit);
+    String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    return jdbcClient
+        .sql("SELECT " + COLUMNS + " FROM users" + where + " ORDER BY id LIMIT :limit")
+        .params(params)
+        .query(USER)
+        .list();
+  }
+
+  @Override
+  public void streamAll(Consumer<UserModel> consumer) {
+    // PostgreSQL solo trae las filas por lotes dentro de una transacción (autocommit off)
+    transactionTemplate.executeWithoutResult(
+        status ->
+            jdbcTemplate.query(
+                connection -> {
+                  PreparedStatement statement =
+                      connection.prepareStatement("SELECT " + EXPORT_COLUMNS + " FROM users");
+                  statement.setFetchSize(EXPORT_FETCH_SIZE);
+                  return statement;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(toExport(rs))));
+  }
+
+  @Override
+  public boolean updatePassword(Long id, String currentEncoded, String newEncoded) {
+    return jdbcTemplate.update(
+            "UPDATE users SET password = ? WHERE id = ? AND password = ?",
+            newEncoded,
+            id,
+            currentEncoded)
+        == 1;
+  }
+
+  private boolean exists(String sql, String value) {
+    return !jdbcClient.sql(sql).param(value).query(Integer.class).list().isEmpty();
+  }
+
+  /** First id of a block nobody else will use; see V2__users_id_sequence.sql. */
+  private long nextIdBlock() {
+    return jdbcClient.sql("SELECT nextval('users_seq')").query(Long.class).single();
+  }
+
+  private static Object[] values(UserModel user, long id) {
+    return new Object[] {
+      user.getFirstName(),
+      user.getLastName(),
+      user.getDocument(),
+      user.getPhone(),
+      user.getBirthDate(),
+      user.getEmail(),
+      user.getRole() != null ? user.getRole().name() : null,
+      user.getActive(),
+      user.getRestaurantId(),
+      user.getPassword(),
+      id
+    };
+  }
+
+  /** Every column but the password hash, read by position in {@link #EXPORT_COLUMNS} order. */
+  private static UserModel toExport(ResultSet rs) throws SQLException {
+    UserModel user = new UserModel();
+    user.setId(rs.getLong(1));
+    user.setFirstName(rs.getString(2));
+    user.setLastName(rs.getString(3));
+    user.setDocument(rs.getString(4));
+    user.setPhone(rs.getString(5));
+    user.setBirthDate(rs.getObject(6, LocalDate.class));
+    user.setEmail(rs.getString(7));
+    user.setRole(toRole(rs.getString(8)));
+    user.setActive(rs.getBoolean(9));
+    user.setRestaurantId(rs.getObject(10, Long.class));
+    return user;
+  }
+
+  private static RoleEnum toRole(String role) {
+    return role != null ? RoleEnum.valueOf(role) : null;
+  }
+}
@@ -0,0 +1,50 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import com.pragma.powerup.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IRefreshTokenEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRefreshTokenRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RefreshTokenJpaAdapter implements IRefreshTokenPersistencePort {
+
+  private final IRefreshTokenRepository refreshTokenRepository;
+  private final IRefreshTokenEntityMapper refreshTokenEntityMapper;
+
+  @Override
+  public RefreshTokenModel save(RefreshTokenModel refreshToken) {
+    return refreshTokenEntityMapper.toDomain(
+        refreshTokenRepository.save(refreshTokenEntityMapper.toEntity(refreshToken)));
+  }
+
+  @Override
+  public RefreshTokenModel findByTokenHash(String tokenHash) {
+    return refreshTokenRepository
+        .findByTokenHash(tokenHash)
+        .map(refreshTokenEntityMapper::toDomain)
+        .orElse(null);
+  }
+
+  @Override
+  public boolean markUsed(Long id) {
+    // UPDATE condicionado: de dos refresh concurrentes con el mismo token solo uno afecta la fila
+    return refreshTokenRepository.markUsed(id) == 1;
+  }
+
+  @Override
+  public void revokeFamily(String familyId) {
+    refreshTokenRepository.revokeFamily(familyId);
+  }
+
+  @Override
+  public void revokeAllByUserId(Long userId) {
+    refreshTokenRepository.revokeAllByUserId(userId);
+  }
+
+  @Override
+  public void deleteExpiredBefore(Instant now) {
+    refreshTokenRepository.deleteExpired(now);
+  }
+}
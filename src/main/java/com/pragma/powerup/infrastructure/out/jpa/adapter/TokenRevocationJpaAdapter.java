@@ -0,0 +1,61 @@
+package com.pragma.powerup.infrastructure.out.jpa.adapter;
+
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.entity.RevokedTokenEntity;
+import com.pragma.powerup.infrastructure.out.jpa.entity.UserTokenEpochEntity;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IRevokedTokenRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserTokenEpochRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TokenRevocationJpaAdapter implements ITokenRevocationPersistencePort {
+
+  private final IRevokedTokenRepository revokedTokenRepository;
+  private final IUserTokenEpochRepository userTokenEpochRepository;
+
+  @Override
+  public void revokeToken(String tokenId, Long userId, Instant expiresAt) {
+    revokedTokenRepository.save(new RevokedTokenEntity(tokenId, userId, expiresAt));
+  }
+
+  @Override
+  public boolean isTokenRevoked(String tokenId) {
+    return revokedTokenRepository.existsById(tokenId);
+  }
+
+  @Override
+  public List<String> findActiveRevokedTokenIds(Instant now) {
+    return revokedTokenRepository.findActiveTokenIds(now);
+  }
+
+  @Override
+  public void deleteRevokedTokensExpiredBefore(Instant now) {
+    revokedTokenRepository.deleteExpired(now);
+  }
+
+  @Override
+  public long incrementTokenEpoch(Long userId) {
+    userTokenEpochRepository.increment(userId);
+    // La fila sigue bloqueada hasta el commit: se lee lo que acaba de escribir esta transacción
+    return findTokenEpoch(userId);
+  }
+
+  @Override
+  public long findTokenEpoch(Long userId) {
+    return userTokenEpochRepository
+        .findById(userId)
+        .map(UserTokenEpochEntity::getEpoch)
+        .orElse(0L);
+  }
+
+  @Override
+  public Map<Long, Long> findTokenEpochsUpdatedSince(Instant since) {
+    return userTokenEpochRepository.findUpdatedSince(since).stream()
+        .collect(
+            Collectors.toMap(UserTokenEpochEntity::getUserId, UserTokenEpochEntity::getEpoch));
+  }
+}
@@ -1,11 +1,30 @@
 package com.pragma.powerup.infrastructure.out.jpa.adapter;
 
+import com.pragma.powerup.domain.exception.DuplicateUserException;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IUserPersistencePort;
 import com.pragma.powerup.infrastructure.out.jpa.entity.UserEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IEmployeeRestaurantProjection;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserCredentialsProjection;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserExportProjection;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.pragma.powerup.infrastructure.out.jpa.repository.UserSpecifications;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 
 @RequiredArgsConstructor
 public class UserJpaAdapter implements IUserPersistencePort {
@@ -26,8 +45,29 @@ public class UserJpaAdapter implements IUserPersistencePort {
   @Override
   public UserModel save(UserModel user) {
     UserEntity entity = userEntityMapper.toEntity(user);
-    UserEntity saved = userRepository.save(entity);
-    return userEntityMapper.toDomain(saved);
+    try {
+      // flush: la violación de unicidad salta aquí y no en el commit, fuera del caso de uso
+      UserEntity saved = userRepository.saveAndFlush(entity);
+      return userEntityMapper.toDomain(saved);
+    } catch (DataIntegrityViolationException e) {
+      throw translate(e);
+    }
+  }
+
+  @Override
+  public List<UserModel> saveAll(List<UserModel> users) {
+    List<UserEntity> entities = users.stream().map(userEntityMapper::toEntity).toList();
+    return userRepository.saveAll(entities).stream().map(userEntityMapper::toDomain).toList();
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    return new HashSet<>(userRepository.findExistingEmails(emails));
+  }
+
+  @Override
+  public Set<String> findExistingDocuments(Collection<String> documents) {
+    return new HashSet<>(userRepository.findExistingDocuments(documents));
   }
 
   @Override
@@ -35,8 +75,111 @@ public class UserJpaAdapter implements IUserPersistencePort {
     return userRepository.findByEmail(email).map(userEntityMapper::toDomain).orElse(null);
   }
 
+  @Override
+  public UserModel findCredentialsByEmail(String email) {
+    return userRepository
+        .findCredentialsByEmail(email)
+        .map(UserJpaAdapter::toDomain)
+        .orElse(null);
+  }
+
   @Override
   public UserModel findById(Long id) {
     return userRepository.findById(id).map(userEntityMapper::toDomain).orElse(null);
   }
+
+  @Override
+  public void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    try (Stream<UserEntity> entities = userRepository.streamByIdIn(ids)) {
+      entities.map(userEntityMapper::toDomain).forEach(consumer);
+    }
+  }
+
+  @Override
+  public boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    return userRepository.existsEmployeeOfRestaurant(userId, restaurantId);
+  }
+
+  @Override
+  public Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    Map<Long, Long> restaurantIds = new HashMap<>();
+    for (IEmployeeRestaurantProjection row : userRepository.findEmployeeRestaurants(userIds)) {
+      restaurantIds.put(row.getId(), row.getRestaurantId());
+    }
+    return restaurantIds;
+  }
+
+  @Override
+  public List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit) {
+    // ORDER BY id LIMIT n sobre "id > afterId": sin OFFSET ni count(*)
+    List<UserEntity> page =
+        userRepository.findBy(
+            UserSpecifications.pageOf(filter, afterId),
+            query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    return page.stream().map(userEntityMapper::toDomain).toList();
+  }
+
+  @Override
+  public void streamAll(Consumer<UserModel> consumer) {
+    try (Stream<IUserExportProjection> rows = userRepository.streamAllForExport()) {
+      rows.map(UserJpaAdapter::toDomain).forEach(consumer);
+    }
+  }
+
+  @Override
+  public boolean updatePassword(Long id, String currentEncoded, String newEncoded) {
+    return userRepository.updatePassword(id, currentEncoded, newEncoded) == 1;
+  }
+
+  private static UserModel toDomain(IUserCredentialsProjection row) {
+    UserModel user = new UserModel();
+    user.setId(row.getId());
+    user.setEmail(row.getEmail());
+    user.setPassword(row.getPassword());
+    user.setRole(row.getRole() != null ? RoleEnum.valueOf(row.getRole()) : null);
+    user.setActive(row.getActive());
+    return user;
+  }
+
+  private static UserModel toDomain(IUserExportProjection row) {
+    UserModel user = new UserModel();
+    user.setId(row.getId());
+    user.setFirstName(row.getFirstName());
+    user.setLastName(row.getLastName());
+    user.setDocument(row.getDocument());
+    user.setPhone(row.getPhone());
+    user.setBirthDate(row.getBirthDate());
+    user.setEmail(row.getEmail());
+    user.setRole(row.getRole() != null ? RoleEnum.valueOf(row.getRole()) : null);
+    user.setActive(row.getActive());
+    user.setRestaurantId(row.getRestaurantId());
+    return user;
+  }
+
+  /**
+   * Maps a unique-constraint violation on email or document to the domain error. Also used by the
+   * JDBC and R2DBC adapters, which hit the same constraint names.
+   */
+  public static RuntimeException translate(DataIntegrityViolationException e) {
+    String detail = violatedConstraint(e).toLowerCase(Locale.ROOT);
+    if (detail.contains(UserEntity.EMAIL_CONSTRAINT)) {
+      return new DuplicateUserException(DuplicateUserException.Field.EMAIL);
+    }
+    if (detail.contains(UserEntity.DOCUMENT_CONSTRAINT)) {
+      return new DuplicateUserException(DuplicateUserException.Field.DOCUMENT);
+    }
+    return e;
+  }
+
+  private static String violatedConstraint(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation
+          && violation.getConstraintName() != null) {
+        return violation.getConstraintName();
+      }
+    }
+    // Algunos drivers no informan el nombre: el mensaje de H2/PostgreSQL lo incluye
+    String message = e.getMostSpecificCause().getMessage();
+    return message != null ? message : "";
+  }
 }
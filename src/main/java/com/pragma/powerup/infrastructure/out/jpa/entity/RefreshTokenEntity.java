@@ -0,0 +1,51 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "refresh_tokens",
+    indexes = {
+      @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+      @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshTokenEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+  private String tokenHash;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "family_id", nullable = false, length = 36)
+  private String familyId;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @Column(name = "used", nullable = false)
+  private boolean used;
+
+  @Column(name = "revoked", nullable = false)
+  private boolean revoked;
+}
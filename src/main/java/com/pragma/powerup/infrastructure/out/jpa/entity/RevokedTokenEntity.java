@@ -0,0 +1,30 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedTokenEntity {
+
+  @Id
+  @Column(name = "token_id", nullable = false, length = 64)
+  private String tokenId;
+
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+}
@@ -5,21 +5,43 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = {
+      // Cubre la comprobación de empleado (id, role, restaurant_id) con un index-only scan
+      @Index(name = "idx_users_employee_restaurant", columnList = "id, role, restaurant_id"),
+      // Listado por keyset: igualdad del rol + id en orden, sin ordenar ni saltar filas
+      @Index(name = "idx_users_role_id", columnList = "role, id")
+      // idx_users_employee_by_restaurant (parcial) e idx_users_login (INCLUDE) solo existen en
+      // las migraciones: JPA no sabe expresarlos
+    },
+    uniqueConstraints = {
+      // Nombres fijos: UserJpaAdapter traduce la violación a DuplicateUserException por nombre
+      @UniqueConstraint(name = UserEntity.EMAIL_CONSTRAINT, columnNames = "email"),
+      @UniqueConstraint(name = UserEntity.DOCUMENT_CONSTRAINT, columnNames = "document")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
 public class UserEntity {
 
+  public static final String EMAIL_CONSTRAINT = "uk_users_email";
+  public static final String DOCUMENT_CONSTRAINT = "uk_users_document";
+
+  // Secuencia en bloques de 50: sin ida a BD por INSERT y con lotes JDBC (IDENTITY los anula)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+  @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "first_name", nullable = false, length = 50)
@@ -28,7 +50,7 @@ public class UserEntity {
   @Column(name = "last_name", nullable = false, length = 50)
   private String lastName;
 
-  @Column(name = "document", nullable = false, unique = true, length = 20)
+  @Column(name = "document", nullable = false, length = 20)
   private String document;
 
   @Column(name = "phone", nullable = false, length = 13)
@@ -37,7 +59,7 @@ public class UserEntity {
   @Column(name = "birth_date", nullable = false)
   private LocalDate birthDate;
 
-  @Column(name = "email", nullable = false, unique = true, length = 100)
+  @Column(name = "email", nullable = false, length = 100)
   private String email;
 
   @Column(name = "password", nullable = false)
@@ -0,0 +1,30 @@
+package com.pragma.powerup.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "user_token_epochs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTokenEpochEntity {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "epoch", nullable = false)
+  private Long epoch;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.pragma.powerup.infrastructure.out.jpa.mapper;
+
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import com.pragma.powerup.infrastructure.out.jpa.entity.RefreshTokenEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface IRefreshTokenEntityMapper {
+
+  RefreshTokenEntity toEntity(RefreshTokenModel refreshToken);
+
+  RefreshTokenModel toDomain(RefreshTokenEntity entity);
+}
@@ -0,0 +1,8 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+/** Id and restaurant of an employee, without loading the rest of the user row. */
+public interface IEmployeeRestaurantProjection {
+  Long getId();
+
+  Long getRestaurantId();
+}
@@ -0,0 +1,32 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.RefreshTokenEntity;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+  Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update RefreshTokenEntity r set r.used = true where r.id = :id and r.used = false")
+  int markUsed(@Param("id") Long id);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update RefreshTokenEntity r set r.revoked = true where r.familyId = :familyId")
+  int revokeFamily(@Param("familyId") String familyId);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update RefreshTokenEntity r set r.revoked = true where r.userId = :userId")
+  int revokeAllByUserId(@Param("userId") Long userId);
+
+  @Transactional
+  @Modifying
+  @Query("delete from RefreshTokenEntity r where r.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
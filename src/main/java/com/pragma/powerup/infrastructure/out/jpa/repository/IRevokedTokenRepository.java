@@ -0,0 +1,21 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.RevokedTokenEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+  @Query("select r.tokenId from RevokedTokenEntity r where r.expiresAt > :now")
+  List<String> findActiveTokenIds(@Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from RevokedTokenEntity r where r.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
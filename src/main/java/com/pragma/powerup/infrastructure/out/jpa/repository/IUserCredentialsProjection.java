@@ -0,0 +1,14 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+/** What a login needs from a user row; all of it is stored in idx_users_login. */
+public interface IUserCredentialsProjection {
+  Long getId();
+
+  String getEmail();
+
+  String getPassword();
+
+  String getRole();
+
+  Boolean getActive();
+}
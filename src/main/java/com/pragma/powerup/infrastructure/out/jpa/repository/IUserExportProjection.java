@@ -0,0 +1,26 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import java.time.LocalDate;
+
+/** Every user column except the password hash, which an export must never read. */
+public interface IUserExportProjection {
+  Long getId();
+
+  String getFirstName();
+
+  String getLastName();
+
+  String getDocument();
+
+  String getPhone();
+
+  LocalDate getBirthDate();
+
+  String getEmail();
+
+  String getRole();
+
+  Boolean getActive();
+
+  Long getRestaurantId();
+}
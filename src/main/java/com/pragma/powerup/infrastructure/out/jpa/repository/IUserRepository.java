@@ -1,13 +1,83 @@
 package com.pragma.powerup.infrastructure.out.jpa.repository;
 
 import com.pragma.powerup.infrastructure.out.jpa.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface IUserRepository extends JpaRepository<UserEntity, Long> {
+public interface IUserRepository
+    extends JpaRepository<UserEntity, Long>, JpaSpecificationExecutor<UserEntity> {
   boolean existsByEmail(String email);
 
   boolean existsByDocument(String document);
 
   Optional<UserEntity> findByEmail(String email);
+
+  /** Answered from idx_users_login with an index-only scan; the row itself is not read. */
+  @Query(
+      "select u.id as id, u.email as email, u.password as password, u.role as role,"
+          + " u.active as active from UserEntity u where u.email = :email")
+  Optional<IUserCredentialsProjection> findCredentialsByEmail(@Param("email") String email);
+
+  @Query("select u.email from UserEntity u where u.email in :emails")
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  @Query("select u.document from UserEntity u where u.document in :documents")
+  List<String> findExistingDocuments(@Param("documents") Collection<String> documents);
+
+  @Query(
+      "select u.id as id, u.restaurantId as restaurantId from UserEntity u"
+          + " where u.id in :ids and u.role = 'EMPLOYEE' and u.restaurantId is not null")
+  List<IEmployeeRestaurantProjection> findEmployeeRestaurants(@Param("ids") Collection<Long> ids);
+
+  /** Must be consumed inside a transaction; rows are fetched from the cursor in batches. */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("select u from UserEntity u where u.id in :ids")
+  Stream<UserEntity> streamByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Forward-only read of the whole table for exports. Rows are projections, not managed entities,
+   * so the persistence context does not grow with the table. Must be consumed inside a
+   * transaction: PostgreSQL only honours the fetch size with autocommit off.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      "select u.id as id, u.firstName as firstName, u.lastName as lastName,"
+          + " u.document as document, u.phone as phone, u.birthDate as birthDate,"
+          + " u.email as email, u.role as role, u.active as active,"
+          + " u.restaurantId as restaurantId from UserEntity u")
+  Stream<IUserExportProjection> streamAllForExport();
+
+  /** Resolved from idx_users_employee_restaurant alone, without touching the table rows. */
+  @Query(
+      value =
+          "SELECT EXISTS (SELECT 1 FROM users WHERE id = :id AND role = 'EMPLOYEE'"
+              + " AND restaurant_id = :restaurantId)",
+      nativeQuery = true)
+  boolean existsEmployeeOfRestaurant(
+      @Param("id") Long id, @Param("restaurantId") Long restaurantId);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update UserEntity u set u.password = :newPassword"
+          + " where u.id = :id and u.password = :currentPassword")
+  int updatePassword(
+      @Param("id") Long id,
+      @Param("currentPassword") String currentPassword,
+      @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,30 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.infrastructure.out.jpa.entity.UserTokenEpochEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IUserTokenEpochRepository extends JpaRepository<UserTokenEpochEntity, Long> {
+
+  /**
+   * Creates the row at epoch 1 or increments it, in one statement: two concurrent first
+   * revocations cannot both try to insert it.
+   */
+  @Modifying(clearAutomatically = true)
+  @Query(
+      value =
+          "INSERT INTO user_token_epochs (user_id, epoch, updated_at)"
+              + " VALUES (:userId, 1, CURRENT_TIMESTAMP)"
+              + " ON CONFLICT (user_id) DO UPDATE"
+              + " SET epoch = user_token_epochs.epoch + 1, updated_at = CURRENT_TIMESTAMP",
+      nativeQuery = true)
+  int increment(@Param("userId") Long userId);
+
+  /** Rows bumped at or after {@code since}; answered from idx_user_token_epochs_updated_at. */
+  @Query("select e from UserTokenEpochEntity e where e.updatedAt >= :since")
+  List<UserTokenEpochEntity> findUpdatedSince(@Param("since") Instant since);
+}
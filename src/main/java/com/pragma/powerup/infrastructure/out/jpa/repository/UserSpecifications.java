@@ -0,0 +1,38 @@
+package com.pragma.powerup.infrastructure.out.jpa.repository;
+
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.infrastructure.out.jpa.entity.UserEntity;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class UserSpecifications {
+
+  private UserSpecifications() {}
+
+  /**
+   * Users after {@code afterId} matching {@code filter}. Only the criteria that are set become
+   * predicates, so each combination reaches the database as its own plain query that can use
+   * idx_users_role_id or the partial idx_users_employee_by_restaurant, instead of one {@code (:x is
+   * null or col = :x)} query with a generic plan.
+   */
+  public static Specification<UserEntity> pageOf(UserFilterModel filter, Long afterId) {
+    List<Specification<UserEntity>> predicates = new ArrayList<>();
+    if (afterId != null) {
+      predicates.add((root, query, cb) -> cb.greaterThan(root.get("id"), afterId));
+    }
+    if (filter.getRole() != null) {
+      String role = filter.getRole().name();
+      predicates.add((root, query, cb) -> cb.equal(root.get("role"), role));
+    }
+    if (filter.getRestaurantId() != null) {
+      Long restaurantId = filter.getRestaurantId();
+      predicates.add((root, query, cb) -> cb.equal(root.get("restaurantId"), restaurantId));
+    }
+    if (filter.getActive() != null) {
+      Boolean active = filter.getActive();
+      predicates.add((root, query, cb) -> cb.equal(root.get("active"), active));
+    }
+    return Specification.allOf(predicates);
+  }
+}
@@ -0,0 +1,97 @@
+package com.pragma.powerup.infrastructure.out.memory;
+
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import com.pragma.powerup.domain.spi.IRefreshTokenPersistencePort;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-node refresh-token store. Tokens are lost on restart, which only forces users to log in
+ * again; use the JPA store when running more than one instance.
+ */
+public class RefreshTokenInMemoryAdapter implements IRefreshTokenPersistencePort {
+
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, Entry> byHash = new ConcurrentHashMap<>();
+  private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+  @Override
+  public RefreshTokenModel save(RefreshTokenModel refreshToken) {
+    RefreshTokenModel stored = copy(refreshToken);
+    if (stored.getId() == null) {
+      stored.setId(sequence.incrementAndGet());
+    }
+    Entry entry = new Entry(stored);
+    byHash.put(stored.getTokenHash(), entry);
+    byId.put(stored.getId(), entry);
+    return entry.snapshot();
+  }
+
+  @Override
+  public RefreshTokenModel findByTokenHash(String tokenHash) {
+    Entry entry = byHash.get(tokenHash);
+    return entry != null ? entry.snapshot() : null;
+  }
+
+  @Override
+  public boolean markUsed(Long id) {
+    Entry entry = byId.get(id);
+    return entry != null && entry.used.compareAndSet(false, true);
+  }
+
+  @Override
+  public void revokeFamily(String familyId) {
+    byId.values().stream()
+        .filter(entry -> entry.model.getFamilyId().equals(familyId))
+        .forEach(entry -> entry.revoked.set(true));
+  }
+
+  @Override
+  public void revokeAllByUserId(Long userId) {
+    byId.values().stream()
+        .filter(entry -> entry.model.getUserId().equals(userId))
+        .forEach(entry -> entry.revoked.set(true));
+  }
+
+  @Override
+  public void deleteExpiredBefore(Instant now) {
+    byId.values().removeIf(entry -> !entry.model.getExpiresAt().isAfter(now));
+    byHash.values().removeIf(entry -> !entry.model.getExpiresAt().isAfter(now));
+  }
+
+  private static RefreshTokenModel copy(RefreshTokenModel source) {
+    RefreshTokenModel copy = new RefreshTokenModel();
+    copy.setId(source.getId());
+    copy.setTokenHash(source.getTokenHash());
+    copy.setUserId(source.getUserId());
+    copy.setFamilyId(source.getFamilyId());
+    copy.setExpiresAt(source.getExpiresAt());
+    copy.setCreatedAt(source.getCreatedAt());
+    copy.setUsed(source.isUsed());
+    copy.setRevoked(source.isRevoked());
+    return copy;
+  }
+
+  /** Immutable fields plus the two flags that change after insert. */
+  private static final class Entry {
+    private final RefreshTokenModel model;
+    private final AtomicBoolean used;
+    private final AtomicBoolean revoked;
+
+    Entry(RefreshTokenModel model) {
+      this.model = model;
+      this.used = new AtomicBoolean(model.isUsed());
+      this.revoked = new AtomicBoolean(model.isRevoked());
+    }
+
+    RefreshTokenModel snapshot() {
+      RefreshTokenModel snapshot = copy(model);
+      snapshot.setUsed(used.get());
+      snapshot.setRevoked(revoked.get());
+      return snapshot;
+    }
+  }
+}
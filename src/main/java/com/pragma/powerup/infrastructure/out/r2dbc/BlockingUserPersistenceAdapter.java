@@ -0,0 +1,121 @@
+package com.pragma.powerup.infrastructure.out.r2dbc;
+
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistenceAsyncPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import reactor.adapter.JdkFlowAdapter;
+
+/**
+ * Serves the blocking {@link IUserPersistencePort} from an {@link IUserPersistenceAsyncPort}, so
+ * the use cases run unchanged on the R2DBC adapter. The calling thread waits for each result;
+ * errors are rethrown as they were raised, without the {@link CompletionException} wrapper.
+ *
+ * <p>Only for benchmarks and tests. It is not wired into the application: the R2DBC pool behind it
+ * would escape the handlers' JPA transactions, and every request thread would still wait here.
+ */
+@RequiredArgsConstructor
+public class BlockingUserPersistenceAdapter implements IUserPersistencePort {
+
+  private final IUserPersistenceAsyncPort delegate;
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return join(delegate.existsByEmail(email));
+  }
+
+  @Override
+  public boolean existsByDocument(String document) {
+    return join(delegate.existsByDocument(document));
+  }
+
+  @Override
+  public UserModel save(UserModel user) {
+    return join(delegate.save(user));
+  }
+
+  @Override
+  public List<UserModel> saveAll(List<UserModel> users) {
+    return join(delegate.saveAll(users));
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    return join(delegate.findExistingEmails(emails));
+  }
+
+  @Override
+  public Set<String> findExistingDocuments(Collection<String> documents) {
+    return join(delegate.findExistingDocuments(documents));
+  }
+
+  @Override
+  public UserModel findByEmail(String email) {
+    return join(delegate.findByEmail(email));
+  }
+
+  @Override
+  public UserModel findCredentialsByEmail(String email) {
+    return join(delegate.findCredentialsByEmail(email));
+  }
+
+  @Override
+  public UserModel findById(Long id) {
+    return join(delegate.findById(id));
+  }
+
+  @Override
+  public void findAllByIds(Collection<Long> ids, Consumer<UserModel> consumer) {
+    drain(delegate.findAllByIds(ids), consumer);
+  }
+
+  @Override
+  public boolean existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    return join(delegate.existsEmployeeOfRestaurant(userId, restaurantId));
+  }
+
+  @Override
+  public Map<Long, Long> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    return join(delegate.findRestaurantIdsOfEmployees(userIds));
+  }
+
+  @Override
+  public List<UserModel> findPage(UserFilterModel filter, Long afterId, int limit) {
+    return join(delegate.findPage(filter, afterId, limit));
+  }
+
+  @Override
+  public void streamAll(Consumer<UserModel> consumer) {
+    drain(delegate.streamAll(), consumer);
+  }
+
+  @Override
+  public boolean updatePassword(Long id, String currentEncoded, String newEncoded) {
+    return join(delegate.updatePassword(id, currentEncoded, newEncoded));
+  }
+
+  private static <T> T join(CompletionStage<T> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Consumes on the calling thread, requesting rows in small batches as it goes. */
+  private static void drain(Flow.Publisher<UserModel> publisher, Consumer<UserModel> consumer) {
+    JdkFlowAdapter.flowPublisherToFlux(publisher).toIterable().forEach(consumer);
+  }
+}
@@ -0,0 +1,377 @@
+package com.pragma.powerup.infrastructure.out.r2dbc;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistenceAsyncPort;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IUserPersistenceAsyncPort} on R2DBC: no thread is parked while PostgreSQL answers, so
+ * concurrency is bounded by the connection pool rather than by request threads. Plain SQL over the
+ * same schema, ids and error translation as the JPA adapter; rows are mapped straight to {@link
+ * UserModel}.
+ *
+ * <p>Owns the connection factory it is given: {@link #close()} disposes it when it is a pool.
+ *
+ * <p>Not wired into the application: its writes would escape the handlers' JPA transactions and
+ * the read-replica routing. Only the JMH benchmark and the persistence contract tests build it.
+ */
+public class UserR2dbcAdapter implements IUserPersistenceAsyncPort, AutoCloseable {
+
+  private static final String COLUMNS =
+      "id, first_name, last_name, document, phone, birth_date, email, password, role, active,"
+          + " restaurant_id";
+  private static final String EXPORT_COLUMNS =
+      "id, first_name, last_name, document, phone, birth_date, email, role, active, restaurant_id";
+  private static final String INSERT =
+      "INSERT INTO users (first_name, last_name, document, phone, birth_date, email, password,"
+          + " role, active, restaurant_id, id) VALUES (:firstName, :lastName, :document, :phone,"
+          + " :birthDate, :email, :password, :role, :active, :restaurantId, :id)";
+  private static final String UPDATE =
+      "UPDATE users SET first_name = :firstName, last_name = :lastName, document = :document,"
+          + " phone = :phone, birth_date = :birthDate, email = :email, password = :password,"
+          + " role = :role, active = :active, restaurant_id = :restaurantId WHERE id = :id";
+  /** Same block size as the {@code users_seq} generator of the JPA entity (pooled-lo). */
+  private static final int ID_BLOCK_SIZE = 50;
+
+  private final ConnectionFactory connectionFactory;
+  private final DatabaseClient client;
+  private final TransactionalOperator transactionalOperator;
+
+  public UserR2dbcAdapter(ConnectionFactory connectionFactory) {
+    this.connectionFactory = connectionFactory;
+    this.client = DatabaseClient.create(connectionFactory);
+    // Solo para saveAll; no se registra como bean para no competir con el JpaTransactionManager
+    this.transactionalOperator =
+        TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+  }
+
+  @Override
+  public CompletionStage<Boolean> existsByEmail(String email) {
+    return exists("SELECT EXISTS (SELECT 1 FROM users WHERE email = :value)", email);
+  }
+
+  @Override
+  public CompletionStage<Boolean> existsByDocument(String document) {
+    return exists("SELECT EXISTS (SELECT 1 FROM users WHERE document = :value)", document);
+  }
+
+  @Override
+  public CompletionStage<UserModel> save(UserModel user) {
+    return store(user).toFuture();
+  }
+
+  @Override
+  public CompletionStage<List<UserModel>> saveAll(List<UserModel> users) {
+    // Un nextval por bloque de 50, igual que pooled-lo en Hibernate y que el adaptador JDBC
+    int blocks = (users.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+    return Flux.range(0, blocks)
+        .concatMap(block -> nextIdBlock())
+        .collectList()
+        .flatMapMany(
+            starts ->
+                Flux.range(0, users.size())
+                    .concatMap(
+                        i ->
+                            insert(
+                                users.get(i),
+                                starts.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE)))
+        .collectList()
+        .as(transactionalOperator::transactional)
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<Set<String>> findExistingEmails(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashSet<>());
+    }
+    return client
+        .sql("SELECT email FROM users WHERE email IN (:values)")
+        .bind("values", emails)
+        .map(row -> row.get(0, String.class))
+        .all()
+        .collect(Collectors.toSet())
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<Set<String>> findExistingDocuments(Collection<String> documents) {
+    if (documents.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashSet<>());
+    }
+    return client
+        .sql("SELECT document FROM users WHERE document IN (:values)")
+        .bind("values", documents)
+        .map(row -> row.get(0, String.class))
+        .all()
+        .collect(Collectors.toSet())
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<UserModel> findByEmail(String email) {
+    return client
+        .sql("SELECT " + COLUMNS + " FROM users WHERE email = :email")
+        .bind("email", email)
+        .map(UserR2dbcAdapter::toModel)
+        .one()
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<UserModel> findCredentialsByEmail(String email) {
+    return client
+        .sql("SELECT id, email, password, role, active FROM users WHERE email = :email")
+        .bind("email", email)
+        .map(UserR2dbcAdapter::toCredentials)
+        .one()
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<UserModel> findById(Long id) {
+    return client
+        .sql("SELECT " + COLUMNS + " FROM users WHERE id = :id")
+        .bind("id", id)
+        .map(UserR2dbcAdapter::toModel)
+        .one()
+        .toFuture();
+  }
+
+  @Override
+  public Flow.Publisher<UserModel> findAllByIds(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return JdkFlowAdapter.publisherToFlowPublisher(Flux.empty());
+    }
+    // Spring expande la colección en un marcador por elemento
+    Flux<UserModel> users =
+        client
+            .sql("SELECT " + COLUMNS + " FROM users WHERE id IN (:ids)")
+            .bind("ids", ids)
+            .map(UserR2dbcAdapter::toModel)
+            .all();
+    return JdkFlowAdapter.publisherToFlowPublisher(users);
+  }
+
+  @Override
+  public CompletionStage<Boolean> existsEmployeeOfRestaurant(Long userId, Long restaurantId) {
+    return client
+        .sql(
+            "SELECT EXISTS (SELECT 1 FROM users WHERE id = :id AND role = 'EMPLOYEE'"
+                + " AND restaurant_id = :restaurantId)")
+        .bind("id", userId)
+        .bind("restaurantId", restaurantId)
+        .map(row -> row.get(0, Boolean.class))
+        .one()
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<Map<Long, Long>> findRestaurantIdsOfEmployees(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    return client
+        .sql(
+            "SELECT id, restaurant_id FROM users WHERE id IN (:ids) AND role = 'EMPLOYEE'"
+                + " AND restaurant_id IS NOT NULL")
+        .bind("ids", userIds)
+        .map(row -> Map.entry(row.get("id", Long.class), row.get("restaurant_id", Long.class)))
+        .all()
+        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+        .toFuture();
+  }
+
+  @Override
+  public CompletionStage<List<UserModel>> findPage(
+      UserFilterModel filter, Long afterId, int limit) {
+    // Mismo criterio que UserSpecifications: solo entran los filtros informados
+    List<String> conditions = new ArrayList<>();
+    Map<String, Object> binds = new LinkedHashMap<>();
+    if (afterId != null) {
+      conditions.add("id > :afterId");
+      binds.put("afterId", afterId);
+    }
+    if (filter.getRole() != null) {
+      conditions.add("role = :role");
+      binds.put("role", filter.getRole().name());
+    }
+    if (filter.getRestaurantId() != null) {
+      conditions.add("restaurant_id = :restaurantId");
+      binds.put("restaurantId", filter.getRestaurantId());
+    }
+    if (filter.getActive() != null) {
+      conditions.add("active = :active");
+      binds.put("active", filter.getActive());
+    }
+    String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    GenericExecuteSpec spec =
+        client
+            .sql("SELECT " + COLUMNS + " FROM users" + where + " ORDER BY id LIMIT :limit")
+            .bind("limit", limit);
+    for (Map.Entry<String, Object> bind : binds.entrySet()) {
+      spec = spec.bind(bind.getKey(), bind.getValue());
+    }
+    return spec.map(UserR2dbcAdapter::toModel).all().collectList().toFuture();
+  }
+
+  @Override
+  public Flow.Publisher<UserModel> streamAll() {
+    // El driver pide filas según la demanda del suscriptor: memoria constante
+    Flux<UserModel> users =
+        client
+            .sql("SELECT " + EXPORT_COLUMNS + " FROM users")
+            .map(UserR2dbcAdapter::toExport)
+            .all();
+    return JdkFlowAdapter.publisherToFlowPublisher(users);
+  }
+
+  @Override
+  public CompletionStage<Boolean> updatePassword(
+      Long id, String currentEncoded, String newEncoded) {
+    return client
+        .sql(
+            "UPDATE users SET password = :newPassword"
+                + " WHERE id = :id AND password = :currentPassword")
+        .bind("newPassword", newEncoded)
+        .bind("id", id)
+        .bind("currentPassword", currentEncoded)
+        .fetch()
+        .rowsUpdated()
+        .map(updated -> updated == 1)
+        .toFuture();
+  }
+
+  @Override
+  public void close() {
+    if (connectionFactory instanceof Disposable pool) {
+      pool.dispose();
+    }
+  }
+
+  private CompletionStage<Boolean> exists(String sql, String value) {
+    return client
+        .sql(sql)
+        .bind("value", value)
+        .map(row -> row.get(0, Boolean.class))
+        .one()
+        .toFuture();
+  }
+
+  private Mono<UserModel> store(UserModel user) {
+    Mono<UserModel> stored;
+    if (user.getId() == null) {
+      stored = nextIdBlock().flatMap(id -> insert(user, id));
+    } else {
+      // Como el merge de JPA: un id que no existe se inserta con uno nuevo
+      stored =
+          bindColumns(client.sql(UPDATE), user)
+              .bind("id", user.getId())
+              .fetch()
+              .rowsUpdated()
+              .flatMap(
+                  updated ->
+                      updated > 0
+                          ? Mono.just(user)
+                          : nextIdBlock().flatMap(id -> insert(user, id)));
+    }
+    return stored.onErrorMap(DataIntegrityViolationException.class, UserJpaAdapter::translate);
+  }
+
+  private Mono<UserModel> insert(UserModel user, long id) {
+    return bindColumns(client.sql(INSERT), user)
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated()
+        .map(
+            inserted -> {
+              user.setId(id);
+              return user;
+            });
+  }
+
+  /** First id of a block nobody else will use; see V2__users_id_sequence.sql. */
+  private Mono<Long> nextIdBlock() {
+    return client.sql("SELECT nextval('users_seq')").map(row -> row.get(0, Long.class)).one();
+  }
+
+  private static GenericExecuteSpec bindColumns(GenericExecuteSpec spec, UserModel user) {
+    spec = bind(spec, "firstName", user.getFirstName(), String.class);
+    spec = bind(spec, "lastName", user.getLastName(), String.class);
+    spec = bind(spec, "document", user.getDocument(), String.class);
+    spec = bind(spec, "phone", user.getPhone(), String.class);
+    spec = bind(spec, "birthDate", user.getBirthDate(), LocalDate.class);
+    spec = bind(spec, "email", user.getEmail(), String.class);
+    spec = bind(spec, "password", user.getPassword(), String.class);
+    spec = bind(spec, "role", user.getRole() != null ? user.getRole().name() : null, String.class);
+    spec = bind(spec, "active", user.getActive(), Boolean.class);
+    return bind(spec, "restaurantId", user.getRestaurantId(), Long.class);
+  }
+
+  private static <T> GenericExecuteSpec bind(
+      GenericExecuteSpec spec, String name, T value, Class<T> type) {
+    return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+  }
+
+  private static UserModel toModel(Readable row) {
+    UserModel user = toExport(row);
+    user.setPassword(row.get("password", String.class));
+    return user;
+  }
+
+  /** Every column but the password hash, like the JPA export projection. */
+  private static UserModel toExport(Readable row) {
+    UserModel user = new UserModel();
+    user.setId(row.get("id", Long.class));
+    user.setFirstName(row.get("first_name", String.class));
+    user.setLastName(row.get("last_name", String.class));
+    user.setDocument(row.get("document", String.class));
+    user.setPhone(row.get("phone", String.class));
+    user.setBirthDate(row.get("birth_date", LocalDate.class));
+    user.setEmail(row.get("email", String.class));
+    user.setRole(toRole(row.get("role", String.class)));
+    user.setActive(row.get("active", Boolean.class));
+    user.setRestaurantId(row.get("restaurant_id", Long.class));
+    return user;
+  }
+
+  private static UserModel toCredentials(Readable row) {
+    UserModel user = new UserModel();
+    user.setId(row.get("id", Long.class));
+    user.setEmail(row.get("email", String.class));
+    user.setPassword(row.get("password", String.class));
+    user.setRole(toRole(row.get("role", String.class)));
+    user.setActive(row.get("active", Boolean.class));
+    return user;
+  }
+
+  private static RoleEnum toRole(String role) {
+    return role != null ? RoleEnum.valueOf(role) : null;
+  }
+}
@@ -0,0 +1,100 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+/**
+ * Switches token signing to ES256 or EdDSA when {@code jwt.algorithm} asks for it. The HMAC key
+ * stays in the ring so tokens minted before the switch (and peers still on the shared secret)
+ * keep verifying during the migration.
+ *
+ * <p>Keys come from {@code jwt.asymmetric.private-key} (PKCS#8) and {@code
+ * jwt.asymmetric.public-key} (X.509), both Base64 DER. Without them startup fails, except under the
+ * {@code local} or {@code dev} profile, where an ephemeral pair is generated: tokens then do not
+ * survive restarts nor verify on other instances.
+ */
+@Slf4j
+@Component
+public class AsymmetricSigningKeyLoader {
+
+  private final JwtKeyRing keyRing;
+  private final String algorithm;
+  private final String keyId;
+  private final String privateKey;
+  private final String publicKey;
+  private final Environment environment;
+
+  public AsymmetricSigningKeyLoader(
+      JwtKeyRing keyRing,
+      @Value("${jwt.algorithm:HMAC}") String algorithm,
+      @Value("${jwt.asymmetric.key-id:}") String keyId,
+      @Value("${jwt.asymmetric.private-key:}") String privateKey,
+      @Value("${jwt.asymmetric.public-key:}") String publicKey,
+      Environment environment) {
+    this.keyRing = keyRing;
+    this.algorithm = algorithm.toUpperCase(Locale.ROOT);
+    this.keyId = keyId;
+    this.privateKey = privateKey;
+    this.publicKey = publicKey;
+    this.environment = environment;
+  }
+
+  @PostConstruct
+  void load() {
+    if ("HMAC".equals(algorithm)) {
+      return;
+    }
+    String jcaAlgorithm =
+        switch (algorithm) {
+          case "ES256" -> "EC";
+          case "EDDSA" -> "Ed25519";
+          default -> throw new IllegalStateException("Unsupported jwt.algorithm: " + algorithm);
+        };
+    String kid = keyId.isBlank() ? algorithm.toLowerCase(Locale.ROOT) + "-1" : keyId;
+    KeyPair keyPair =
+        privateKey.isBlank() ? generate(kid) : parse(jcaAlgorithm, privateKey, publicKey);
+    keyRing.rotate(kid, keyPair);
+    log.info("JWT signing switched to {} (kid={})", algorithm, kid);
+  }
+
+  private KeyPair generate(String kid) {
+    if (!environment.acceptsProfiles(Profiles.of("local", "dev"))) {
+      throw new IllegalStateException(
+          "jwt.asymmetric.private-key is required for " + algorithm + " outside local/dev");
+    }
+    log.warn(
+        "jwt.asymmetric.private-key not set; generated an ephemeral {} key pair (kid={})",
+        algorithm,
+        kid);
+    return "ES256".equals(algorithm)
+        ? Jwts.SIG.ES256.keyPair().build()
+        : Jwts.SIG.EdDSA.keyPair().build();
+  }
+
+  private static KeyPair parse(String jcaAlgorithm, String privateDer, String publicDer) {
+    if (publicDer.isBlank()) {
+      throw new IllegalStateException("jwt.asymmetric.public-key is required with a private key");
+    }
+    try {
+      KeyFactory factory = KeyFactory.getInstance(jcaAlgorithm);
+      return new KeyPair(
+          factory.generatePublic(new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicDer))),
+          factory.generatePrivate(
+              new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateDer))));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Invalid jwt.asymmetric key material", e);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the highest BCrypt cost whose hash fits a latency budget on the current machine. Each
+ * cost step doubles the work, so it times a cheap reference cost and extrapolates instead of
+ * hashing at every candidate.
+ *
+ * <p>Run it on the production hardware and pin the result in {@code password.bcrypt.strength}:
+ * calibrating on every node at startup lets heterogeneous hosts disagree on the cost, and each
+ * would keep rehashing the others' hashes.
+ */
+public final class BCryptCostCalibrator {
+
+  static final int MIN_COST = 4;
+  static final int MAX_COST = 31;
+
+  private static final int REFERENCE_COST = 8;
+  private static final int SAMPLES = 7;
+
+  private BCryptCostCalibrator() {}
+
+  public static int calibrate(Duration budget) {
+    return costFor(budget, measureReference());
+  }
+
+  /** Highest cost whose extrapolated time stays within {@code budget}. */
+  static int costFor(Duration budget, Duration referenceHash) {
+    long budgetNanos = budget.toNanos();
+    long estimate = Math.max(1, referenceHash.toNanos());
+    int cost = REFERENCE_COST;
+    while (cost < MAX_COST && estimate * 2 <= budgetNanos) {
+      estimate *= 2;
+      cost++;
+    }
+    while (cost > MIN_COST && estimate > budgetNanos) {
+      estimate /= 2;
+      cost--;
+    }
+    return cost;
+  }
+
+  private static Duration measureReference() {
+    String salt = BCrypt.gensalt(REFERENCE_COST);
+    BCrypt.hashpw("calibration", salt); // calentamiento del JIT
+    long[] samples = new long[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      BCrypt.hashpw("calibration", salt);
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    return Duration.ofNanos(samples[SAMPLES / 2]);
+  }
+
+  /** {@code java ... BCryptCostCalibrator [budgetMs]} prints the cost to configure. */
+  public static void main(String[] args) {
+    long budgetMs = args.length > 0 ? Long.parseLong(args[0]) : 250;
+    Duration reference = measureReference();
+    int cost = costFor(Duration.ofMillis(budgetMs), reference);
+    System.out.printf(
+        "cost %d reference: %.2f ms; recommended cost for %d ms: %d (~%.0f ms)%n",
+        REFERENCE_COST,
+        reference.toNanos() / 1e6,
+        budgetMs,
+        cost,
+        reference.toNanos() * Math.pow(2, cost - REFERENCE_COST) / 1e6);
+  }
+}
@@ -0,0 +1,65 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings, sized from the expected number of insertions and the
+ * target false-positive rate. Uses double hashing (Kirsch–Mitzenmacher) over a single 64-bit
+ * hash, so a lookup costs one pass over the key and {@code k} word reads.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = (long) wordCount << 6;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+  }
+
+  void add(String key) {
+    long hash = Hashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + i * h2);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      long current = words.get(word);
+      while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+        current = words.get(word);
+      }
+    }
+  }
+
+  boolean mightContain(String key) {
+    long hash = Hashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long bit = index(h1 + i * h2);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long bitSize() {
+    return bitCount;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  private long index(int combined) {
+    return (combined & 0x7FFFFFFFL) % bitCount;
+  }
+}
@@ -0,0 +1,183 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.infrastructure.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs the (deliberately slow) password hash on its own CPU-sized pool instead of on request
+ * threads, so a login storm cannot starve cheap endpoints. The queue is bounded: when it is full
+ * the call fails fast with {@link PasswordHashingUnavailableException}. Callers wait at most
+ * {@code maxWait}; after that the task is cancelled, so work whose client already gave up is
+ * dropped from the queue instead of burning a core.
+ */
+public class BoundedPasswordEncoder implements IPasswordEncoderPort, AutoCloseable {
+
+  static final String METRIC_PREFIX = "password.hashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration maxWait;
+  private final long retryAfterSeconds;
+  private final Timer queueWait;
+  private final Timer hashDuration;
+  private final Counter rejectedQueueFull;
+  private final Counter rejectedTimeout;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      int threads,
+      int queueCapacity,
+      Duration maxWait,
+      long retryAfterSeconds,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWait = maxWait;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+        .description("Password hashes waiting for a worker")
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    this.queueWait =
+        Timer.builder(METRIC_PREFIX + ".queue.wait")
+            .description("Time a password hash spends queued before a worker picks it up")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    this.hashDuration = Timer.builder(METRIC_PREFIX + ".duration").register(meterRegistry);
+    this.rejectedQueueFull =
+        Counter.builder(METRIC_PREFIX + ".rejected")
+            .tag("reason", "queue-full")
+            .register(meterRegistry);
+    this.rejectedTimeout =
+        Counter.builder(METRIC_PREFIX + ".rejected")
+            .tag("reason", "timeout")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(String raw) {
+    return run(() -> delegate.encode(raw));
+  }
+
+  @Override
+  public boolean matches(String raw, String encoded) {
+    return run(() -> delegate.matches(raw, encoded));
+  }
+
+  /** Cheap string check on the stored hash; does not go through the pool. */
+  @Override
+  public boolean needsUpgrade(String encoded) {
+    return delegate.upgradeEncoding(encoded);
+  }
+
+  /**
+   * The same encoder without this pool: hashes run on the calling thread. Meant for bulk work that
+   * brings its own bounded executor, such as the user import, which must neither fail when logins
+   * fill this queue nor fill it and turn logins away.
+   */
+  public IPasswordEncoderPort onCallingThread() {
+    return new IPasswordEncoderPort() {
+      @Override
+      public String encode(String raw) {
+        return delegate.encode(raw);
+      }
+
+      @Override
+      public boolean matches(String raw, String encoded) {
+        return delegate.matches(raw, encoded);
+      }
+
+      @Override
+      public boolean needsUpgrade(String encoded) {
+        return delegate.upgradeEncoding(encoded);
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  int queueDepth() {
+    return executor.getQueue().size();
+  }
+
+  private <T> T run(Callable<T> hash) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashDuration.recordCallable(hash);
+              });
+    } catch (RejectedExecutionException e) {
+      rejectedQueueFull.increment();
+      throw new PasswordHashingUnavailableException(
+          "Password hashing capacity exhausted", retryAfterSeconds);
+    }
+
+    try {
+      return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // Si sigue en cola no llega a ejecutarse; si ya corre, el resultado se descarta
+      future.cancel(true);
+      rejectedTimeout.increment();
+      throw new PasswordHashingUnavailableException(
+          "Password hashing timed out", retryAfterSeconds);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingUnavailableException(
+          "Password hashing interrupted", retryAfterSeconds);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static final class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
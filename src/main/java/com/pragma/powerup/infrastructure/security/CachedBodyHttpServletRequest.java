@@ -0,0 +1,92 @@
+package com.pragma.powerup.infrastructure.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request whose whole body was read up front so a filter can inspect it and still pass it on: every
+ * call to {@link #getInputStream()} replays the cached bytes from the start.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+  private final byte[] body;
+
+  CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+    super(request);
+    this.body = body;
+  }
+
+  byte[] getBody() {
+    return body;
+  }
+
+  @Override
+  public ServletInputStream getInputStream() {
+    return new ServletInputStream() {
+      private int position;
+
+      @Override
+      public boolean isFinished() {
+        return position == body.length;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {
+        // Todo está ya en memoria: se notifica de inmediato, como un contenedor con el body listo
+        try {
+          if (!isFinished()) {
+            readListener.onDataAvailable();
+          }
+          if (isFinished()) {
+            readListener.onAllDataRead();
+          }
+        } catch (IOException e) {
+          readListener.onError(e);
+        }
+      }
+
+      @Override
+      public int read() {
+        return isFinished() ? -1 : body[position++] & 0xFF;
+      }
+
+      @Override
+      public int read(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+          return 0;
+        }
+        if (isFinished()) {
+          return -1;
+        }
+        int count = Math.min(length, body.length - position);
+        System.arraycopy(body, position, buffer, offset, count);
+        position += count;
+        return count;
+      }
+
+      @Override
+      public int available() {
+        return body.length - position;
+      }
+    };
+  }
+
+  @Override
+  public BufferedReader getReader() {
+    String encoding = getCharacterEncoding();
+    Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+  }
+}
@@ -0,0 +1,36 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder that asks for an upgrade whenever the stored cost differs from the configured
+ * one, in either direction, or the hash is not BCrypt at all. Spring's own check only flags lower
+ * costs, which would leave over-priced hashes in place after lowering the cost.
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  private static final Pattern BCRYPT =
+      Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./A-Za-z0-9]{53}$");
+
+  private final int strength;
+
+  public CostAwareBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null || encodedPassword.isEmpty()) {
+      return false;
+    }
+    Matcher matcher = BCRYPT.matcher(encodedPassword);
+    return !matcher.matches() || Integer.parseInt(matcher.group(1)) != strength;
+  }
+}
@@ -0,0 +1,389 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Allocation-light verifier for the tokens this service mints itself (HMAC, {@code kid} header,
+ * flat claims). It matches the header segment against the key ring, checks the HMAC over the raw
+ * bytes with a per-thread {@link Mac}, and only then scans the payload for the handful of claims
+ * the filter needs, without building a {@code Claims} map.
+ *
+ * <p>{@link #tryVerify} returns {@code null} for anything outside that shape (unknown header,
+ * nested claims, escaped strings...) so the caller falls back to jjwt; it throws {@link
+ * JwtException} when the token is recognised but invalid.
+ */
+@Component
+public class FastJwtVerifier {
+
+  private static final byte[] USER_ID = ascii("userId");
+  private static final byte[] SUB = ascii("sub");
+  private static final byte[] ROLE = ascii("role");
+  private static final byte[] EXP = ascii("exp");
+  private static final byte[] NBF = ascii("nbf");
+  private static final byte[] JTI = ascii("jti");
+  private static final byte[] EPOCH = ascii("epoch");
+
+  private static final int MAX_MAC_LENGTH = 64;
+
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private final JwtKeyRing keyRing;
+  private final boolean enabled;
+
+  public FastJwtVerifier(
+      JwtKeyRing keyRing, @Value("${jwt.fast-path.enabled:false}") boolean enabled) {
+    this.keyRing = keyRing;
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return the verified principal, or {@code null} if the token must go through jjwt
+   * @throws JwtException if the token matches a known key but its signature or time window is bad
+   */
+  public JwtPrincipal tryVerify(String token) {
+    int firstDot = token.indexOf('.');
+    int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+    if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+      return null;
+    }
+
+    JwtKeyRing.KeyEntry entry = matchHeader(token, firstDot);
+    if (entry == null) {
+      return null;
+    }
+
+    Scratch scratch = SCRATCH.get();
+    verifySignature(token, secondDot, entry.mac().get(), scratch);
+
+    int payloadLength = decodeBase64Url(token, firstDot + 1, secondDot, scratch);
+    if (payloadLength < 0) {
+      throw new MalformedJwtException("Invalid JWT payload encoding");
+    }
+    return scanClaims(scratch.payload, payloadLength);
+  }
+
+  private JwtKeyRing.KeyEntry matchHeader(String token, int headerLength) {
+    for (JwtKeyRing.KeyEntry entry : keyRing.entries()) {
+      String header = entry.headerSegment();
+      if (header != null
+          && header.length() == headerLength && token.regionMatches(0, header, 0, headerLength)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private static void verifySignature(String token, int signingInputEnd, Mac mac, Scratch scratch) {
+    byte[] input = scratch.ascii(signingInputEnd);
+    for (int i = 0; i < signingInputEnd; i++) {
+      input[i] = (byte) token.charAt(i);
+    }
+    mac.update(input, 0, signingInputEnd);
+    int macLength = mac.getMacLength();
+    try {
+      mac.doFinal(scratch.expected, 0);
+    } catch (ShortBufferException e) {
+      throw new IllegalStateException(e);
+    }
+
+    int actualLength =
+        decodeBase64Url(token, signingInputEnd + 1, token.length(), scratch.actual, 0);
+    if (actualLength != macLength
+        || !constantTimeEquals(scratch.expected, scratch.actual, macLength)) {
+      throw new SignatureException("JWT signature does not match");
+    }
+  }
+
+  private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+    int diff = 0;
+    for (int i = 0; i < length; i++) {
+      diff |= a[i] ^ b[i];
+    }
+    return diff == 0;
+  }
+
+  private static JwtPrincipal scanClaims(byte[] json, int length) {
+    ClaimScanner scanner = new ClaimScanner(json, length);
+    if (!scanner.scan()) {
+      return null;
+    }
+    long now = Instant.now().getEpochSecond();
+    if (scanner.exp != Long.MIN_VALUE && now >= scanner.exp) {
+      throw new JwtException("JWT expired");
+    }
+    if (scanner.nbf != Long.MIN_VALUE && now < scanner.nbf) {
+      throw new JwtException("JWT not yet valid");
+    }
+    return new JwtPrincipal(
+        scanner.userId,
+        scanner.sub,
+        scanner.role,
+        scanner.exp != Long.MIN_VALUE ? Instant.ofEpochSecond(scanner.exp) : null,
+        scanner.jti,
+        scanner.epoch);
+  }
+
+  private static int decodeBase64Url(String token, int from, int to, Scratch scratch) {
+    byte[] target = scratch.payload(((to - from) * 3) / 4 + 3);
+    return decodeBase64Url(token, from, to, target, 0);
+  }
+
+  /** Base64URL (no padding) decoder writing into {@code target}; -1 on invalid input. */
+  private static int decodeBase64Url(String token, int from, int to, byte[] target, int offset) {
+    int out = offset;
+    int buffer = 0;
+    int bits = 0;
+    for (int i = from; i < to; i++) {
+      int value = base64Value(token.charAt(i));
+      if (value < 0) {
+        return -1;
+      }
+      buffer = ((buffer << 6) | value) & 0xFFFF;
+      bits += 6;
+      if (bits >= 8) {
+        bits -= 8;
+        if (out >= target.length) {
+          return -1;
+        }
+        target[out++] = (byte) (buffer >> bits);
+      }
+    }
+    return out - offset;
+  }
+
+  private static int base64Value(char c) {
+    if (c >= 'A' && c <= 'Z') {
+      return c - 'A';
+    }
+    if (c >= 'a' && c <= 'z') {
+      return c - 'a' + 26;
+    }
+    if (c >= '0' && c <= '9') {
+      return c - '0' + 52;
+    }
+    if (c == '-') {
+      return 62;
+    }
+    if (c == '_') {
+      return 63;
+    }
+    return -1;
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /** Per-thread buffers reused across requests. */
+  private static final class Scratch {
+    private byte[] input = new byte[1024];
+    private byte[] payload = new byte[768];
+    private final byte[] expected = new byte[MAX_MAC_LENGTH];
+    private final byte[] actual = new byte[MAX_MAC_LENGTH + 3];
+
+    byte[] ascii(int length) {
+      if (input.length < length) {
+        input = new byte[length];
+      }
+      return input;
+    }
+
+    byte[] payload(int length) {
+      if (payload.length < length) {
+        payload = new byte[length];
+      }
+      return payload;
+    }
+  }
+
+  /**
+   * Single pass over a flat JSON object. Only picks the claims the filter needs; returns {@code
+   * false} from {@link #scan} on any construct it does not handle.
+   */
+  private static final class ClaimScanner {
+    private final byte[] json;
+    private final int length;
+    private int pos;
+
+    private String userId;
+    private String sub;
+    private String role;
+    private String jti;
+    private long epoch;
+    private long exp = Long.MIN_VALUE;
+    private long nbf = Long.MIN_VALUE;
+
+    ClaimScanner(byte[] json, int length) {
+      this.json = json;
+      this.length = length;
+    }
+
+    boolean scan() {
+      skipWhitespace();
+      if (!consume('{')) {
+        return false;
+      }
+      skipWhitespace();
+      if (consume('}')) {
+        return true;
+      }
+      while (true) {
+        skipWhitespace();
+        int keyStart = stringBounds();
+        if (keyStart < 0) {
+          return false;
+        }
+        int keyEnd = pos - 1;
+        skipWhitespace();
+        if (!consume(':')) {
+          return false;
+        }
+        skipWhitespace();
+        if (!readValue(keyStart, keyEnd)) {
+          return false;
+        }
+        skipWhitespace();
+        if (consume(',')) {
+          continue;
+        }
+        return consume('}') && pos <= length;
+      }
+    }
+
+    private boolean readValue(int keyStart, int keyEnd) {
+      if (pos >= length) {
+        return false;
+      }
+      byte c = json[pos];
+      if (c == '"') {
+        int start = stringBounds();
+        if (start < 0) {
+          return false;
+        }
+        String value = new String(json, start, pos - 1 - start, StandardCharsets.UTF_8);
+        if (keyEquals(keyStart, keyEnd, USER_ID)) {
+          userId = value;
+        } else if (keyEquals(keyStart, keyEnd, SUB)) {
+          sub = value;
+        } else if (keyEquals(keyStart, keyEnd, ROLE)) {
+          role = value;
+        } else if (keyEquals(keyStart, keyEnd, JTI)) {
+          jti = value;
+        } else if (keyEquals(keyStart, keyEnd, EXP)
+            || keyEquals(keyStart, keyEnd, NBF)
+            || keyEquals(keyStart, keyEnd, EPOCH)) {
+          return false;
+        }
+        return true;
+      }
+      if (c == '-' || (c >= '0' && c <= '9')) {
+        int start = pos;
+        long number = 0;
+        boolean negative = consume('-');
+        int digits = 0;
+        while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+          number = number * 10 + (json[pos++] - '0');
+          digits++;
+        }
+        if (digits == 0 || digits > 18) {
+          return false;
+        }
+        if (pos < length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E')) {
+          return false; // no emitimos claims decimales; que lo resuelva jjwt
+        }
+        number = negative ? -number : number;
+        if (keyEquals(keyStart, keyEnd, USER_ID)) {
+          userId = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+        } else if (keyEquals(keyStart, keyEnd, EXP)) {
+          exp = number;
+        } else if (keyEquals(keyStart, keyEnd, NBF)) {
+          nbf = number;
+        } else if (keyEquals(keyStart, keyEnd, EPOCH)) {
+          epoch = number;
+        }
+        return true;
+      }
+      if (literal("true") || literal("false")) {
+        return true;
+      }
+      if (literal("null")) {
+        return true;
+      }
+      // Objetos y arrays anidados quedan fuera del camino rápido
+      return false;
+    }
+
+    /** Consumes a string without escapes; returns the index after the opening quote or -1. */
+    private int stringBounds() {
+      if (!consume('"')) {
+        return -1;
+      }
+      int start = pos;
+      while (pos < length) {
+        byte c = json[pos++];
+        if (c == '"') {
+          return start;
+        }
+        if (c == '\\' || (c >= 0 && c < 0x20)) {
+          return -1;
+        }
+      }
+      return -1;
+    }
+
+    private boolean keyEquals(int start, int end, byte[] key) {
+      if (end - start != key.length) {
+        return false;
+      }
+      for (int i = 0; i < key.length; i++) {
+        if (json[start + i] != key[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean literal(String word) {
+      if (pos + word.length() > length) {
+        return false;
+      }
+      for (int i = 0; i < word.length(); i++) {
+        if (json[pos + i] != word.charAt(i)) {
+          return false;
+        }
+      }
+      pos += word.length();
+      return true;
+    }
+
+    private boolean consume(char expected) {
+      if (pos < length && json[pos] == expected) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void skipWhitespace() {
+      while (pos < length) {
+        byte c = json[pos];
+        if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+          return;
+        }
+        pos++;
+      }
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+
+/** 64-bit string hash shared by the in-memory sketches (Bloom filter, rate-limit buckets). */
+final class Hashing {
+
+  private Hashing() {}
+
+  /** FNV-1a over the UTF-8 bytes followed by a 64-bit finalizer so both halves are usable. */
+  static long hash64(String key) {
+    long h = 0xcbf29ce484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      h ^= b & 0xFF;
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtValidator jwtValidator;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
   @Override
   protected void doFilterInternal(
@@ -41,22 +43,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     String token = header.substring(7);
 
     try {
-      if (jwtValidator.isValid(token)) {
-        String userId = jwtValidator.extractUserId(token);
-        String email = jwtValidator.extractEmail(token);
-        String role = jwtValidator.extractRole(token);
-
-        if (email != null && role != null) {
-          UsernamePasswordAuthenticationToken auth =
-              new UsernamePasswordAuthenticationToken(
-                  email,
-                  null,
-                  Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-
-          // Agregar información adicional al contexto
-          auth.setDetails(new AuthDetails(userId, email, role));
-          SecurityContextHolder.getContext().setAuthentication(auth);
-        }
+      // Una sola verificación por petición (o ninguna si el token ya está en caché)
+      JwtPrincipal principal = jwtValidator.verify(token);
+      // Filtro en memoria: solo va a base de datos si el jti parece revocado
+      boolean revoked = tokenRevocationRegistry.isRevoked(principal);
+      String email = principal.email();
+      String role = principal.role();
+
+      if (revoked) {
+        log.debug("Revoked JWT token for user {}", principal.userId());
+        SecurityContextHolder.clearContext();
+      } else if (email != null && role != null) {
+        UsernamePasswordAuthenticationToken auth =
+            new UsernamePasswordAuthenticationToken(
+                email,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+
+        // Agregar información adicional al contexto
+        auth.setDetails(
+            new AuthDetails(
+                principal.userId(), email, role, principal.tokenId(), principal.expiresAt()));
+        SecurityContextHolder.getContext().setAuthentication(auth);
       }
     } catch (Exception e) {
       log.debug("Invalid JWT token: {}", e.getMessage());
@@ -70,11 +78,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final String userId;
     private final String email;
     private final String role;
+    private final String tokenId;
+    private final Instant expiresAt;
 
-    public AuthDetails(String userId, String email, String role) {
+    public AuthDetails(
+        String userId, String email, String role, String tokenId, Instant expiresAt) {
       this.userId = userId;
       this.email = email;
       this.role = role;
+      this.tokenId = tokenId;
+      this.expiresAt = expiresAt;
     }
 
     public String getUserId() {
@@ -88,5 +101,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public String getRole() {
       return role;
     }
+
+    public String getTokenId() {
+      return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+      return expiresAt;
+    }
   }
 }
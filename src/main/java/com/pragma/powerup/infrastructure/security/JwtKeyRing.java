@@ -0,0 +1,183 @@
+package com.pragma.powerup.infrastructure.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Signing keys shared by {@link JwtService} (mint) and {@link JwtValidator} (verify).
+ *
+ * <p>Keys and the parser are built once; each token carries a {@code kid} header so verification
+ * resolves its key with a single map lookup; tokens minted before the header existed resolve to
+ * the original {@code jwt.key-id} key only. Several keys can be active at the same time: {@link
+ * #rotate} publishes a new signing key while the previous ones keep verifying until {@link
+ * #retire} removes them. Updates swap an immutable snapshot, so the hot path never locks.
+ *
+ * <p>Entries are either HMAC secrets (shared with peers) or asymmetric key pairs (ES256/EdDSA)
+ * whose public halves are published as a JWK Set, so both kinds verify side by side while
+ * services migrate off the shared secret.
+ */
+@Component
+public class JwtKeyRing {
+
+  private final JwtParser parser;
+  private final String legacyKeyId;
+  private volatile Snapshot snapshot;
+
+  public JwtKeyRing(
+      @Value("${jwt.secret}") String secret, @Value("${jwt.key-id:default}") String keyId) {
+    this.legacyKeyId = keyId;
+    this.snapshot = Snapshot.of(keyId, Map.of(keyId, KeyEntry.hmac(keyId, secret)));
+    this.parser = Jwts.parser().keyLocator(new KidLocator()).build();
+  }
+
+  /** Key id stamped on newly minted tokens. */
+  public String signingKeyId() {
+    return snapshot.signingKeyId();
+  }
+
+  /** HMAC secret or asymmetric private key used to sign new tokens. */
+  public Key signingKey() {
+    Snapshot current = snapshot;
+    return current.keys().get(current.signingKeyId()).signingKey();
+  }
+
+  /** Key registered under {@code kid}, or {@code null} if it is unknown or retired. */
+  public Key verificationKey(String kid) {
+    KeyEntry entry = snapshot.keys().get(kid);
+    return entry != null ? entry.verificationKey() : null;
+  }
+
+  /** JWK Set ({@code {"keys": [...]}}) with the public half of every asymmetric key. */
+  public Map<String, Object> jwks() {
+    return snapshot.jwks();
+  }
+
+  /** Parser that picks the verification key from the token's {@code kid} header. */
+  public JwtParser parser() {
+    return parser;
+  }
+
+  /** Registers {@code secret} under {@code kid} and makes it the signing key. */
+  public void rotate(String kid, String secret) {
+    register(KeyEntry.hmac(kid, secret));
+  }
+
+  /** Registers an ES256 or EdDSA key pair under {@code kid} and makes it the signing key. */
+  public void rotate(String kid, KeyPair keyPair) {
+    register(KeyEntry.asymmetric(kid, keyPair));
+  }
+
+  private synchronized void register(KeyEntry entry) {
+    Map<String, KeyEntry> keys = new HashMap<>(snapshot.keys());
+    keys.put(entry.kid(), entry);
+    snapshot = Snapshot.of(entry.kid(), keys);
+  }
+
+  /**
+   * Stops accepting tokens signed with {@code kid}. The current signing key cannot be retired.
+   * Principals already held by {@link VerifiedTokenCache} stay valid until their {@code exp}
+   * unless the cache is cleared as well.
+   */
+  public synchronized void retire(String kid) {
+    Snapshot current = snapshot;
+    if (kid.equals(current.signingKeyId())) {
+      throw new IllegalArgumentException("Cannot retire the active signing key: " + kid);
+    }
+    Map<String, KeyEntry> keys = new HashMap<>(current.keys());
+    keys.remove(kid);
+    snapshot = Snapshot.of(current.signingKeyId(), keys);
+  }
+
+  /** Active keys, for verifiers that match tokens against them without going through jjwt. */
+  Collection<KeyEntry> entries() {
+    return snapshot.keys().values();
+  }
+
+  private record Snapshot(
+      String signingKeyId, Map<String, KeyEntry> keys, Map<String, Object> jwks) {
+
+    static Snapshot of(String signingKeyId, Map<String, KeyEntry> keys) {
+      List<Map<String, Object>> publicKeys =
+          keys.values().stream().map(KeyEntry::jwk).filter(Objects::nonNull).toList();
+      return new Snapshot(signingKeyId, Map.copyOf(keys), Map.of("keys", publicKeys));
+    }
+  }
+
+  /**
+   * One key of the ring. For HMAC entries {@code headerSegment} is the exact Base64URL header
+   * {@link JwtService} emits for this key, so a token can be matched to its key by comparing its
+   * first segment instead of decoding the header JSON, and {@code mac} hands each thread its own
+   * initialised {@link Mac} ({@code Mac} is not thread-safe and {@code init} is not free). For
+   * asymmetric entries both are {@code null} and {@code jwk} holds the public JWK.
+   */
+  record KeyEntry(
+      String kid,
+      Key signingKey,
+      Key verificationKey,
+      String headerSegment,
+      ThreadLocal<Mac> mac,
+      Map<String, Object> jwk) {
+
+    static KeyEntry hmac(String kid, String secret) {
+      SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+      String probe =
+          Jwts.builder().header().keyId(kid).and().subject("probe").signWith(key).compact();
+      String headerSegment = probe.substring(0, probe.indexOf('.'));
+      ThreadLocal<Mac> mac = ThreadLocal.withInitial(() -> newMac(key));
+      return new KeyEntry(kid, key, key, headerSegment, mac, null);
+    }
+
+    static KeyEntry asymmetric(String kid, KeyPair keyPair) {
+      Map<String, Object> jwk =
+          new LinkedHashMap<>(
+              Jwks.builder().key(keyPair.getPublic()).id(kid).publicKeyUse("sig").build());
+      return new KeyEntry(
+          kid, keyPair.getPrivate(), keyPair.getPublic(), null, null, Map.copyOf(jwk));
+    }
+
+    private static Mac newMac(SecretKey key) {
+      try {
+        Mac mac = Mac.getInstance(key.getAlgorithm());
+        mac.init(key);
+        return mac;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("Cannot initialise " + key.getAlgorithm(), e);
+      }
+    }
+  }
+
+  private final class KidLocator extends LocatorAdapter<Key> {
+
+    @Override
+    protected Key locate(ProtectedHeader header) {
+      Snapshot current = snapshot;
+      // Tokens emitidos antes de introducir el kid: solo la clave original (jwt.key-id), nunca la
+      // activa, o un token sin kid firmado con una clave rotada se saltaría el kid por completo
+      String kid = header.getKeyId() != null ? header.getKeyId() : legacyKeyId;
+      KeyEntry entry = current.keys().get(kid);
+      if (entry == null) {
+        throw new InvalidKeyException("Unknown JWT key id: " + kid);
+      }
+      return entry.verificationKey();
+    }
+  }
+}
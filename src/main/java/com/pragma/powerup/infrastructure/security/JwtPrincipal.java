@@ -0,0 +1,11 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Typed claims of a JWT that has been verified once. Carries the expiration so the verified-token
+ * cache can evict the entry exactly when the token stops being valid, and the {@code jti} and
+ * token epoch the revocation check needs.
+ */
+public record JwtPrincipal(
+    String userId, String email, String role, Instant expiresAt, String tokenId, long epoch) {}
@@ -3,20 +3,20 @@ package com.pragma.powerup.infrastructure.security;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.spi.IJwtProviderPort;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class JwtService implements IJwtProviderPort {
 
-  @Value("${jwt.secret:change-me}")
-  private String secretKey;
+  private final JwtKeyRing keyRing;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
-  @Value("${jwt.expiration:86400000}")
+  @Value("${jwt.expiration:900000}")
   private long jwtExpiration;
 
   @Override
@@ -25,13 +25,18 @@ public class JwtService implements IJwtProviderPort {
     long expSeconds = nowSeconds + (jwtExpiration / 1000);
 
     return Jwts.builder()
+        .header()
+        .keyId(keyRing.signingKeyId()) // kid para elegir la clave al verificar
+        .and()
+        .id(UUID.randomUUID().toString()) // jti para poder revocar este token en concreto
         .claim("userId", user.getId())
         .claim("role", user.getRole() != null ? user.getRole().name() : null)
         .claim("email", user.getEmail())
+        .claim("epoch", tokenRevocationRegistry.findTokenEpoch(user.getId()))
         .subject(user.getEmail()) // Usar subject() en lugar de claim("sub")
         .issuedAt(new Date(nowSeconds * 1000)) // Convertir de vuelta a milisegundos para Date
         .expiration(new Date(expSeconds * 1000)) // Usar expiration() en lugar de claim("exp")
-        .signWith(getKey())
+        .signWith(keyRing.signingKey())
         .compact();
   }
 
@@ -39,8 +44,4 @@ public class JwtService implements IJwtProviderPort {
   public long getExpirationMs() {
     return jwtExpiration;
   }
-
-  private SecretKey getKey() {
-    return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-  }
 }
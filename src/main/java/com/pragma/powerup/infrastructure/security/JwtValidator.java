@@ -1,27 +1,34 @@
 package com.pragma.powerup.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
-import javax.crypto.SecretKey;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class JwtValidator {
 
-  @Value("${jwt.secret}")
-  private String secretKey;
+  private final JwtKeyRing keyRing;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final FastJwtVerifier fastJwtVerifier;
+
+  /**
+   * Verifies the token once and returns its typed claims. Repeated calls with the same token are
+   * served from {@link VerifiedTokenCache} until the token expires.
+   *
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered or expired
+   */
+  public JwtPrincipal verify(String token) {
+    return verifiedTokenCache.getOrVerify(token, this::parsePrincipal);
+  }
 
   public Claims validateAndExtractClaims(String token) {
-    SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    return keyRing.parser().parseSignedClaims(token).getPayload();
   }
 
   public boolean isValid(String token) {
     try {
-      validateAndExtractClaims(token);
+      verify(token);
       return true;
     } catch (Exception e) {
       return false;
@@ -29,18 +36,33 @@ public class JwtValidator {
   }
 
   public String extractUserId(String token) {
-    Claims claims = validateAndExtractClaims(token);
-    Object userIdClaim = claims.get("userId");
-    return userIdClaim != null ? userIdClaim.toString() : null;
+    return verify(token).userId();
   }
 
   public String extractEmail(String token) {
-    Claims claims = validateAndExtractClaims(token);
-    return claims.getSubject();
+    return verify(token).email();
   }
 
   public String extractRole(String token) {
+    return verify(token).role();
+  }
+
+  private JwtPrincipal parsePrincipal(String token) {
+    if (fastJwtVerifier.isEnabled()) {
+      JwtPrincipal principal = fastJwtVerifier.tryVerify(token);
+      if (principal != null) {
+        return principal;
+      }
+    }
     Claims claims = validateAndExtractClaims(token);
-    return claims.get("role", String.class);
+    Object userIdClaim = claims.get("userId");
+    Number epochClaim = claims.get("epoch", Number.class);
+    return new JwtPrincipal(
+        userIdClaim != null ? userIdClaim.toString() : null,
+        claims.getSubject(),
+        claims.get("role", String.class),
+        claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+        claims.getId(),
+        epochClaim != null ? epochClaim.longValue() : 0L);
   }
 }
@@ -0,0 +1,184 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Token-bucket limiting for the public endpoints that run BCrypt: login (by client IP and by
+ * email) and customer self-registration (by client IP). Runs before Spring Security so rejected
+ * requests cost a hash of the key and a few CAS operations.
+ *
+ * <p>Login bodies over {@value #MAX_INSPECTED_BODY} bytes are rejected with 413: the email key
+ * must always be charged, so the body has to be read whole.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}; behind a proxy enable {@code
+ * server.forward-headers-strategy} so it reflects the real client.
+ */
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  static final String LOGIN_PATH = "/api/v1/auth/login";
+  static final String REGISTRATION_PATH = "/api/v1/users/customer";
+
+  private static final int MAX_INSPECTED_BODY = 8 * 1024;
+  private static final String REJECTED_METRIC = "http.rate-limit.rejected";
+
+  private final boolean enabled;
+  private final ObjectMapper objectMapper;
+  private final SketchTokenBucketLimiter loginByIp;
+  private final SketchTokenBucketLimiter loginByEmail;
+  private final SketchTokenBucketLimiter registrationByIp;
+  private final Counter loginIpRejections;
+  private final Counter loginEmailRejections;
+  private final Counter registrationIpRejections;
+
+  public RateLimitFilter(
+      @Value("${rate-limit.enabled:true}") boolean enabled,
+      @Value("${rate-limit.sketch.width:16384}") int width,
+      @Value("${rate-limit.sketch.depth:4}") int depth,
+      @Value("${rate-limit.login.ip.capacity:20}") long loginIpCapacity,
+      @Value("${rate-limit.login.ip.refill-per-minute:20}") double loginIpRefill,
+      @Value("${rate-limit.login.email.capacity:5}") long loginEmailCapacity,
+      @Value("${rate-limit.login.email.refill-per-minute:5}") double loginEmailRefill,
+      @Value("${rate-limit.registration.ip.capacity:5}") long registrationIpCapacity,
+      @Value("${rate-limit.registration.ip.refill-per-minute:5}") double registrationIpRefill,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.objectMapper = objectMapper;
+    this.loginByIp =
+        new SketchTokenBucketLimiter(
+            width, depth, loginIpCapacity, loginIpRefill, System::currentTimeMillis);
+    this.loginByEmail =
+        new SketchTokenBucketLimiter(
+            width, depth, loginEmailCapacity, loginEmailRefill, System::currentTimeMillis);
+    this.registrationByIp =
+        new SketchTokenBucketLimiter(
+            width, depth, registrationIpCapacity, registrationIpRefill, System::currentTimeMillis);
+    this.loginIpRejections = rejections(meterRegistry, "login", "ip");
+    this.loginEmailRejections = rejections(meterRegistry, "login", "email");
+    this.registrationIpRejections = rejections(meterRegistry, "registration", "ip");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    if (!enabled || !"POST".equals(request.getMethod())) {
+      return true;
+    }
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !LOGIN_PATH.equals(path) && !REGISTRATION_PATH.equals(path);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    String ip = request.getRemoteAddr();
+
+    if (REGISTRATION_PATH.equals(path)) {
+      if (reject(registrationByIp, ip, registrationIpRejections, response)) {
+        return;
+      }
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    if (reject(loginByIp, ip, loginIpRejections, response)) {
+      return;
+    }
+    CachedBodyHttpServletRequest cached = cacheBody(request);
+    // Un login legítimo cabe de sobra; sin este corte, rellenar el JSON saltaba el límite
+    if (cached == null) {
+      writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+      return;
+    }
+    String email = extractEmail(cached.getBody());
+    // Clave aparte de la IP: frena el relleno de credenciales contra una cuenta desde muchas IPs
+    if (email != null && reject(loginByEmail, email, loginEmailRejections, response)) {
+      return;
+    }
+    filterChain.doFilter(cached, response);
+  }
+
+  private boolean reject(
+      SketchTokenBucketLimiter limiter,
+      String key,
+      Counter rejections,
+      HttpServletResponse response)
+      throws IOException {
+    long waitMillis = limiter.tryAcquire(key);
+    if (waitMillis == 0) {
+      return false;
+    }
+    rejections.increment();
+    long retryAfter = Math.max(1, (waitMillis + 999) / 1000);
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+    writeError(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests");
+    return true;
+  }
+
+  private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+      throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write("{\"message\":\"" + message + "\"}");
+  }
+
+  /** The request with its body cached, or {@code null} if the body exceeds the inspected size. */
+  private CachedBodyHttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+    InputStream input = request.getInputStream();
+    byte[] body = input.readNBytes(MAX_INSPECTED_BODY + 1);
+    if (body.length > MAX_INSPECTED_BODY) {
+      return null;
+    }
+    return new CachedBodyHttpServletRequest(request, body);
+  }
+
+  private String extractEmail(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    try {
+      JsonNode email = objectMapper.readTree(body).get("email");
+      return email != null && email.isTextual()
+          ? email.asText().trim().toLowerCase(Locale.ROOT)
+          : null;
+    } catch (IOException e) {
+      // JSON inválido: lo rechazará la validación del controlador
+      return null;
+    }
+  }
+
+  private static Counter rejections(MeterRegistry registry, String endpoint, String key) {
+    return Counter.builder(REJECTED_METRIC)
+        .description("Requests rejected by the rate limiter")
+        .tag("endpoint", endpoint)
+        .tag("key", key)
+        .register(registry);
+  }
+}
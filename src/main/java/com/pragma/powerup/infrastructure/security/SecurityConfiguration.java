@@ -1,7 +1,9 @@
 package com.pragma.powerup.infrastructure.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -19,13 +21,21 @@ public class SecurityConfiguration {
                 http.csrf(AbstractHttpConfigurer::disable)
                                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .authorizeHttpRequests(
-                                                auth -> auth.requestMatchers(
+                                                auth -> auth
+                                                                // Respuestas en streaming: ya se autorizó el request original
+                                                                .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                                                .permitAll()
+                                                                .requestMatchers(HttpMethod.POST, "/api/v1/users/batch")
+                                                                .authenticated()
+                                                                .requestMatchers(
                                                                 "/actuator/**",
                                                                 "/swagger-ui/**",
                                                                 "/swagger-ui.html",
                                                                 "/v3/api-docs/**",
                                                                 "/v3/api-docs.yaml",
+                                                                "/.well-known/jwks.json",
                                                                 "/api/v1/auth/login",
+                                                                "/api/v1/auth/refresh",
                                                                 "/api/v1/users/customer",
                                                                 "/api/v1/users/*")
                                                                 .permitAll()
@@ -0,0 +1,130 @@
+package com.pragma.powerup.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets stored in a fixed count-min style sketch instead of a map per key, so memory is
+ * {@code depth × width} longs no matter how many clients show up. Each key maps to one cell per
+ * row; a cell packs its last refill time and its tokens into a single long updated with CAS.
+ *
+ * <p>Every cell is a real bucket shared by the keys that hash to it. A call takes one token from
+ * each cell of its key, each with its own CAS against the value it read, and hands the tokens
+ * back if any cell is empty; concurrent calls therefore cannot spend the same token twice, and a
+ * key never gets through above its rate. Colliding keys can only drain each other, so the sketch
+ * may throttle a client early; the width keeps such collisions rare.
+ */
+final class SketchTokenBucketLimiter {
+
+  /** Fixed-point scale: tokens are stored in thousandths to keep fractional refills. */
+  static final long SCALE = 1000;
+
+  private static final int TOKEN_BITS = 24;
+  private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+  private final AtomicLongArray cells;
+  private final int width;
+  private final int depth;
+  private final long capacity;
+  private final double refillPerMilli;
+  private final LongSupplier clock;
+  private final long origin;
+
+  /**
+   * @param capacity burst size in tokens
+   * @param refillPerMinute tokens added back per minute
+   * @param clock milliseconds source
+   */
+  SketchTokenBucketLimiter(
+      int width, int depth, long capacity, double refillPerMinute, LongSupplier clock) {
+    if (capacity <= 0 || capacity * SCALE > TOKEN_MASK) {
+      throw new IllegalArgumentException("Capacity must be between 1 and " + TOKEN_MASK / SCALE);
+    }
+    if (refillPerMinute <= 0) {
+      throw new IllegalArgumentException("Refill rate must be positive");
+    }
+    this.width = width;
+    this.depth = depth;
+    this.cells = new AtomicLongArray(width * depth);
+    this.capacity = capacity * SCALE;
+    this.refillPerMilli = refillPerMinute * SCALE / 60_000d;
+    this.clock = clock;
+    this.origin = clock.getAsLong();
+  }
+
+  /**
+   * Takes one token for {@code key}.
+   *
+   * @return 0 if the call is allowed, otherwise the milliseconds until a token is available
+   */
+  long tryAcquire(String key) {
+    long now = clock.getAsLong() - origin + 1; // +1: una celda a cero significa "sin usar"
+    long hash = Hashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+
+    for (int row = 0; row < depth; row++) {
+      long wait = take(index(row, h1, h2), now);
+      if (wait > 0) {
+        for (int taken = 0; taken < row; taken++) {
+          giveBack(index(taken, h1, h2), now);
+        }
+        return wait;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Takes one token from a cell, retrying while other callers change it underneath.
+   *
+   * @return 0 if the token was taken, otherwise the milliseconds until the cell has one
+   */
+  private long take(int index, long now) {
+    while (true) {
+      long cell = cells.get(index);
+      long refilled = refill(cell, now);
+      long tokens = refilled & TOKEN_MASK;
+      if (tokens < SCALE) {
+        return (long) Math.ceil((SCALE - tokens) / refillPerMilli);
+      }
+      if (cells.compareAndSet(index, cell, refilled - SCALE)) {
+        return 0;
+      }
+    }
+  }
+
+  /** Returns a token taken by a call that another cell of its key then rejected. */
+  private void giveBack(int index, long now) {
+    while (true) {
+      long cell = cells.get(index);
+      long refilled = refill(cell, now);
+      long tokens = Math.min(capacity, (refilled & TOKEN_MASK) + SCALE);
+      if (cells.compareAndSet(index, cell, (refilled & ~TOKEN_MASK) | tokens)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Cell state after crediting the time elapsed since its last refill. The timestamp only moves
+   * forward by the time actually converted into tokens, so frequent callers do not lose the
+   * fractional refill on every write.
+   */
+  private long refill(long cell, long now) {
+    if (cell == 0) {
+      return (now << TOKEN_BITS) | capacity;
+    }
+    long last = cell >>> TOKEN_BITS;
+    long tokens = cell & TOKEN_MASK;
+    long credit = (long) (Math.max(0, now - last) * refillPerMilli);
+    if (tokens + credit >= capacity) {
+      return (Math.max(now, last) << TOKEN_BITS) | capacity;
+    }
+    return ((last + (long) (credit / refillPerMilli)) << TOKEN_BITS) | (tokens + credit);
+  }
+
+  private int index(int row, int h1, int h2) {
+    return row * width + Math.floorMod(h1 + row * h2, width);
+  }
+}
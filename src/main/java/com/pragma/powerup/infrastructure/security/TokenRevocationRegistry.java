@@ -0,0 +1,168 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * In-memory view of token revocations in front of the persistent store. Keeps the per-user token
+ * epoch and a Bloom filter of revoked {@code jti}s so {@link #isRevoked} answers the common
+ * (not revoked) case without touching the database; only a filter hit is confirmed against the
+ * store. Writes go through to the store and are applied locally at once; other nodes pick them up
+ * on the next {@link #reload()}. New tokens take their epoch from the store ({@link
+ * #findTokenEpoch}), never from this possibly stale view.
+ *
+ * <p>Only non-zero epochs are kept (a missing user is at epoch 0), so the map holds the users
+ * whose tokens were ever revoked in bulk, not everyone who logs in. Each reload fetches only the
+ * epochs bumped since the previous one.
+ */
+@Slf4j
+public class TokenRevocationRegistry implements ITokenRevocationPersistencePort {
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+  // La recarga incremental vuelve a pedir este margen: cubre transacciones que confirman tarde
+  // (updated_at es su inicio) y el desfase de reloj entre este nodo y la base de datos
+  private static final Duration EPOCH_RELOAD_OVERLAP = Duration.ofMinutes(1);
+
+  private final ITokenRevocationPersistencePort delegate;
+  private final long expectedInsertions;
+  private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+  private volatile BloomFilter revokedTokenIds;
+  private volatile Set<String> revokedSinceReload = ConcurrentHashMap.newKeySet();
+  private volatile Instant epochsLoadedSince = Instant.EPOCH;
+
+  public TokenRevocationRegistry(
+      ITokenRevocationPersistencePort delegate, long expectedInsertions) {
+    this.delegate = delegate;
+    this.expectedInsertions = expectedInsertions;
+    this.revokedTokenIds = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+  }
+
+  /** Rebuilds the filter from the store, dropping revocations of tokens that already expired. */
+  @PostConstruct
+  @Scheduled(
+      fixedDelayString = "${jwt.revocation.reload-interval-ms:30000}",
+      initialDelayString = "${jwt.revocation.reload-interval-ms:30000}")
+  public void reload() {
+    Instant now = Instant.now();
+    Set<String> pending = revokedSinceReload;
+    revokedSinceReload = ConcurrentHashMap.newKeySet();
+
+    delegate.deleteRevokedTokensExpiredBefore(now);
+    List<String> active = delegate.findActiveRevokedTokenIds(now);
+    BloomFilter next =
+        new BloomFilter(Math.max(expectedInsertions, active.size() * 2L), FALSE_POSITIVE_RATE);
+    active.forEach(next::add);
+    pending.forEach(next::add);
+    revokedTokenIds = next;
+    // Lo revocado mientras se reconstruía el filtro también debe quedar en el nuevo
+    revokedSinceReload.forEach(next::add);
+
+    delegate.findTokenEpochsUpdatedSince(epochsLoadedSince).forEach(this::learnEpoch);
+    epochsLoadedSince = now.minus(EPOCH_RELOAD_OVERLAP);
+    log.debug(
+        "Token revocation state reloaded: {} revoked ids, {} epochs", active.size(), epochs.size());
+  }
+
+  /** Whether an already signature-verified token has been revoked. */
+  public boolean isRevoked(JwtPrincipal principal) {
+    Long userId = parseUserId(principal.userId());
+    if (userId != null) {
+      long epoch = currentEpoch(userId);
+      if (principal.epoch() < epoch) {
+        return true;
+      }
+      if (principal.epoch() > epoch) {
+        // Acuñado en otro nodo tras una revocación que aquí aún no se ha recargado
+        learnEpoch(userId, principal.epoch());
+      }
+    }
+    String tokenId = principal.tokenId();
+    return tokenId != null
+        && revokedTokenIds.mightContain(tokenId)
+        && delegate.isTokenRevoked(tokenId);
+  }
+
+  /** This node's view of the user's epoch; tokens carrying a lower one are rejected. */
+  public long currentEpoch(Long userId) {
+    return userId == null ? 0L : epochs.getOrDefault(userId, 0L);
+  }
+
+  @Override
+  public void revokeToken(String tokenId, Long userId, Instant expiresAt) {
+    delegate.revokeToken(tokenId, userId, expiresAt);
+    revokedSinceReload.add(tokenId);
+    revokedTokenIds.add(tokenId);
+  }
+
+  @Override
+  public boolean isTokenRevoked(String tokenId) {
+    return revokedTokenIds.mightContain(tokenId) && delegate.isTokenRevoked(tokenId);
+  }
+
+  @Override
+  public List<String> findActiveRevokedTokenIds(Instant now) {
+    return delegate.findActiveRevokedTokenIds(now);
+  }
+
+  @Override
+  public void deleteRevokedTokensExpiredBefore(Instant now) {
+    delegate.deleteRevokedTokensExpiredBefore(now);
+  }
+
+  @Override
+  public long incrementTokenEpoch(Long userId) {
+    long epoch = delegate.incrementTokenEpoch(userId);
+    learnEpoch(userId, epoch);
+    return epoch;
+  }
+
+  /**
+   * Epoch to stamp into a new token, read from the store: a revocation made on another node must
+   * not yield a token that this node accepts now and rejects after the next reload.
+   */
+  @Override
+  public long findTokenEpoch(Long userId) {
+    if (userId == null) {
+      return 0L;
+    }
+    learnEpoch(userId, delegate.findTokenEpoch(userId));
+    return currentEpoch(userId);
+  }
+
+  @Override
+  public Map<Long, Long> findTokenEpochsUpdatedSince(Instant since) {
+    return delegate.findTokenEpochsUpdatedSince(since);
+  }
+
+  int trackedEpochs() {
+    return epochs.size();
+  }
+
+  private void learnEpoch(Long userId, long epoch) {
+    // Las épocas solo crecen: quedarse con el máximo evita retroceder por una lectura atrasada.
+    // La época 0 no se guarda: es la de cualquier usuario ausente
+    if (epoch > 0) {
+      epochs.merge(userId, epoch, Math::max);
+    }
+  }
+
+  private static Long parseUserId(String userId) {
+    if (userId == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(userId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
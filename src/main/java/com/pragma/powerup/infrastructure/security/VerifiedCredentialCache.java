@@ -0,0 +1,133 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.powerup.domain.api.IAuthServicePort;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.domain.util.UserValidation;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.atomic.DoubleAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * {@link IAuthServicePort} decorator that remembers successful logins for a short TTL, so a client
+ * repeating the same login within seconds skips the BCrypt check. Entries are keyed by the email
+ * and an HMAC of the password under a per-process random key; the plaintext is never kept.
+ *
+ * <p>A hit still reloads the user and is discarded if the stored password hash or the active
+ * flag changed since the entry was written, so password changes and deactivations take effect
+ * immediately. Failed logins are never cached.
+ */
+public class VerifiedCredentialCache implements IAuthServicePort {
+
+  static final String CACHE_NAME = "auth.verified-credentials";
+
+  /** Peso de cada nueva muestra en la media móvil del coste de verificación. */
+  private static final double EWMA_ALPHA = 0.2;
+
+  private final IAuthServicePort delegate;
+  private final IUserPersistencePort userPersistencePort;
+  private final Cache<CredentialKey, VerifiedCredential> cache;
+  private final ThreadLocal<Mac> mac;
+  private final DoubleAdder savedSeconds = new DoubleAdder();
+  private volatile double verificationCostNanos;
+
+  public VerifiedCredentialCache(
+      IAuthServicePort delegate,
+      IUserPersistencePort userPersistencePort,
+      Duration ttl,
+      long maxSize,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.userPersistencePort = userPersistencePort;
+    this.cache =
+        Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build();
+
+    byte[] key = new byte[32];
+    new SecureRandom().nextBytes(key);
+    SecretKeySpec secretKey = new SecretKeySpec(key, "HmacSHA256");
+    this.mac =
+        ThreadLocal.withInitial(
+            () -> {
+              try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(secretKey);
+                return instance;
+              } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+              }
+            });
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    FunctionCounter.builder(CACHE_NAME + ".saved", savedSeconds, DoubleAdder::sum)
+        .description("Estimated password-verification time skipped by cache hits")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public UserModel authenticate(String email, String password) {
+    if (email == null || password == null) {
+      return delegate.authenticate(email, password);
+    }
+
+    // Misma clave para cualquier variante de mayúsculas del email
+    String canonical = UserValidation.canonicalEmail(email);
+    CredentialKey key = new CredentialKey(canonical, hmac(canonical, password));
+    VerifiedCredential cached = cache.getIfPresent(key);
+    if (cached != null) {
+      UserModel current = userPersistencePort.findCredentialsByEmail(canonical);
+      if (cached.stillValidFor(current)) {
+        savedSeconds.add(verificationCostNanos / 1e9);
+        return current;
+      }
+      cache.invalidate(key);
+    }
+
+    long start = System.nanoTime();
+    UserModel user = delegate.authenticate(email, password);
+    recordVerificationCost(System.nanoTime() - start);
+    cache.put(key, new VerifiedCredential(user.getId(), user.getPassword(), user.getActive()));
+    return user;
+  }
+
+  void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private void recordVerificationCost(long nanos) {
+    double previous = verificationCostNanos;
+    verificationCostNanos = previous == 0 ? nanos : previous + EWMA_ALPHA * (nanos - previous);
+  }
+
+  private String hmac(String email, String password) {
+    Mac instance = mac.get();
+    instance.update(email.getBytes(StandardCharsets.UTF_8));
+    instance.update((byte) 0);
+    return Base64.getEncoder()
+        .encodeToString(instance.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private record CredentialKey(String email, String passwordMac) {}
+
+  private record VerifiedCredential(Long userId, String passwordHash, Boolean active) {
+
+    boolean stillValidFor(UserModel current) {
+      return current != null
+          && Objects.equals(userId, current.getId())
+          && Objects.equals(passwordHash, current.getPassword())
+          && Boolean.TRUE.equals(active)
+          && Boolean.TRUE.equals(current.getActive());
+    }
+  }
+}
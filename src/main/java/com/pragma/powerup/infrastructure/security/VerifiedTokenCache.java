@@ -0,0 +1,97 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of verified tokens, keyed by the SHA-256 of the token (raw tokens are never kept)
+ * and evicted at the token's {@code exp}. Clients that reuse a token skip signature verification
+ * and JSON parsing on every request after the first one.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "jwt.verified-tokens";
+
+  private final boolean enabled;
+  private final Cache<String, JwtPrincipal> cache;
+
+  public VerifiedTokenCache(
+      @Value("${jwt.cache.enabled:true}") boolean enabled,
+      @Value("${jwt.cache.max-size:100000}") long maxSize,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new ExpireAtTokenExpiration())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns the cached principal for the token or computes it with {@code verifier}. If the
+   * verifier throws, nothing is cached and the exception reaches the caller.
+   */
+  public JwtPrincipal getOrVerify(String token, Function<String, JwtPrincipal> verifier) {
+    if (!enabled) {
+      return verifier.apply(token);
+    }
+    return cache.get(digest(token), ignored -> verifier.apply(token));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static final class ExpireAtTokenExpiration implements Expiry<String, JwtPrincipal> {
+
+    @Override
+    public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+      if (value.expiresAt() == null) {
+        return 0L;
+      }
+      long remaining = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+      return Math.max(0L, remaining);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, JwtPrincipal value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, JwtPrincipal value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
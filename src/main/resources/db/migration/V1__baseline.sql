@@ -0,0 +1,46 @@
+-- Esquema tal y como lo generaba Hibernate (ddl-auto=update) antes de introducir Flyway.
+-- En bases existentes no se ejecuta: baseline-on-migrate las marca directamente en la versión 1.
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(50)  NOT NULL,
+    last_name     VARCHAR(50)  NOT NULL,
+    document      VARCHAR(20)  NOT NULL,
+    phone         VARCHAR(13)  NOT NULL,
+    birth_date    DATE         NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    role          VARCHAR(20)  NOT NULL,
+    active        BOOLEAN      NOT NULL,
+    restaurant_id BIGINT,
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_document UNIQUE (document)
+);
+
+CREATE INDEX idx_users_employee_restaurant ON users (id, role, restaurant_id);
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(64)                 NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    family_id  VARCHAR(36)                 NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used       BOOLEAN                     NOT NULL,
+    revoked    BOOLEAN                     NOT NULL,
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+
+CREATE TABLE revoked_tokens (
+    token_id   VARCHAR(64)                 PRIMARY KEY,
+    user_id    BIGINT,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE user_token_epochs (
+    user_id BIGINT PRIMARY KEY,
+    epoch   BIGINT NOT NULL
+);
@@ -0,0 +1,13 @@
+-- users.id pasa de IDENTITY a una secuencia con incremento 50 (pooled-lo en Hibernate):
+-- un nextval reserva 50 ids y los INSERT pueden ir en lotes JDBC.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Continúa tras el mayor id existente
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+
+-- INSERT manuales sin id siguen funcionando: cogen el inicio de un bloque libre
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
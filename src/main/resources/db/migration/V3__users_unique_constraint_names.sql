@@ -0,0 +1,31 @@
+-- Los esquemas creados por Hibernate (ddl-auto) tienen restricciones únicas con nombres
+-- generados (uk_6dotkott2kjsp8vw4d0m25fb7, ...). El alta de usuarios identifica el campo
+-- duplicado por el nombre de la restricción, así que se normalizan a uk_users_email/document.
+DO $$
+DECLARE
+    legacy RECORD;
+BEGIN
+    FOR legacy IN
+        SELECT con.conname, att.attname
+        FROM pg_constraint con
+        JOIN pg_attribute att
+          ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND att.attname IN ('email', 'document')
+    LOOP
+        IF legacy.conname <> 'uk_users_' || legacy.attname THEN
+            EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I',
+                           legacy.conname, 'uk_users_' || legacy.attname);
+        END IF;
+    END LOOP;
+
+    -- Sin restricción previa (esquema muy antiguo): crearla
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_users_email') THEN
+        ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_users_document') THEN
+        ALTER TABLE users ADD CONSTRAINT uk_users_document UNIQUE (document);
+    END IF;
+END $$;
@@ -0,0 +1,6 @@
+-- Índice para el listado paginado por keyset (GET /api/v1/users): el filtro por igualdad
+-- fija el prefijo y el id sigue en orden, así "id > :cursor ORDER BY id LIMIT n" lee solo n
+-- entradas en cualquier página. active se aplica como filtro residual (casi todos son true).
+-- CONCURRENTLY no bloquea escrituras; Flyway ejecuta esta migración fuera de transacción.
+-- El listado por restaurante lo sirve el índice parcial de empleados de V5.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_role_id ON users (role, id);
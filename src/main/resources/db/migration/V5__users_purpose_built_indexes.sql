@@ -0,0 +1,18 @@
+-- Índices pensados para las consultas reales en lugar de los que dejaba ddl-auto.
+-- CONCURRENTLY no bloquea escrituras; Flyway ejecuta esta migración fuera de transacción.
+
+-- Empleados de un restaurante: solo indexa las filas EMPLOYEE (una fracción de la tabla) y el
+-- id en segundo lugar sirve el listado por keyset de GET /api/v1/users?role=EMPLOYEE&restaurantId=
+-- Es el único índice por restaurante: un filtro por restaurante sin rol recorre la clave
+-- primaria en orden de id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_employee_by_restaurant
+    ON users (restaurant_id, id)
+    WHERE role = 'EMPLOYEE';
+
+-- Los listados por rol y estado usan idx_users_role_id (V4) con active como filtro residual;
+-- un (role, active, id) duplicaría el prefijo y perdería el orden por id sin filtro de estado.
+
+-- Login: findCredentialsByEmail lee todo de aquí (index-only scan) sin visitar la fila.
+-- La unicidad la sigue garantizando uk_users_email.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_login
+    ON users (email) INCLUDE (id, password, role, active);
@@ -0,0 +1,31 @@
+-- Los emails se guardan en forma canónica (trim + minúsculas, UserValidation.canonicalEmail) y
+-- todas las búsquedas comparan por igualdad con esa forma: siempre usan uk_users_email y nunca
+-- necesitan lower(email). Con la CHECK, la unicidad sobre email equivale a unicidad sin
+-- distinguir mayúsculas sin un índice funcional aparte.
+
+DO $$
+DECLARE
+    collisions BIGINT;
+BEGIN
+    SELECT count(*) INTO collisions
+    FROM (SELECT lower(btrim(email))
+          FROM users
+          GROUP BY lower(btrim(email))
+          HAVING count(*) > 1) duplicated;
+    IF collisions > 0 THEN
+        RAISE EXCEPTION
+            '% emails differ only in case or surrounding spaces; merge those users before migrating',
+            collisions;
+    END IF;
+END $$;
+
+UPDATE users
+SET email = lower(btrim(email))
+WHERE email <> lower(btrim(email));
+
+-- NOT VALID: las filas nuevas ya se comprueban, pero no se recorre la tabla aquí. Esta migración
+-- es una sola transacción y el ADD CONSTRAINT toma ACCESS EXCLUSIVE hasta el COMMIT, así que un
+-- VALIDATE en este mismo fichero recorrería la tabla con las escrituras bloqueadas. Lo hace V8,
+-- en su propia transacción, con SHARE UPDATE EXCLUSIVE, que sí deja escribir
+ALTER TABLE users
+    ADD CONSTRAINT ck_users_email_canonical CHECK (email = lower(btrim(email))) NOT VALID;
@@ -0,0 +1,30 @@
+-- Las bases anteriores a Flyway se marcan en V1 sin ejecutarlo, así que solo tienen las tablas
+-- que Hibernate hubiera creado entonces. Con ddl-auto=validate ya nadie crea las de tokens:
+-- se crean aquí si faltan. En bases creadas desde V1 no hace nada.
+-- (V1 no se toca: cambiar su checksum rompería la validación en las bases que sí lo ejecutaron.)
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(64)                 NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    family_id  VARCHAR(36)                 NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used       BOOLEAN                     NOT NULL,
+    revoked    BOOLEAN                     NOT NULL,
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens (user_id);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   VARCHAR(64)                 PRIMARY KEY,
+    user_id    BIGINT,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_token_epochs (
+    user_id BIGINT PRIMARY KEY,
+    epoch   BIGINT NOT NULL
+);
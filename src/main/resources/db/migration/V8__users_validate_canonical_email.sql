@@ -0,0 +1,4 @@
+-- Separada de V6 para que corra en su propia transacción: VALIDATE solo toma SHARE UPDATE
+-- EXCLUSIVE, así que recorre las filas existentes sin bloquear lecturas ni escrituras. Las filas
+-- escritas desde V6 ya cumplen la CHECK.
+ALTER TABLE users VALIDATE CONSTRAINT ck_users_email_canonical;
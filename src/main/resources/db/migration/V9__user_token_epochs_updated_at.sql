@@ -0,0 +1,6 @@
+-- Momento de la última subida de época: cada nodo recarga solo las filas cambiadas desde su
+-- recarga anterior en lugar de leer la tabla entera cada 30 s
+ALTER TABLE user_token_epochs
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_user_token_epochs_updated_at ON user_token_epochs (updated_at);
@@ -1,11 +1,27 @@
 package com.pragma.powerup;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class PowerUpApplicationTests {
 
+  @Autowired
+  private ApplicationContext applicationContext;
+
   @Test
   void contextLoads() {}
+
+  @Test
+  void keepsBootApplicationTaskExecutor() {
+    // Cualquier bean Executor propio haría que Boot no lo creara y MVC async usaría un hilo por
+    // petición
+    assertThat(applicationContext.getBean("applicationTaskExecutor"))
+        .isInstanceOf(AsyncTaskExecutor.class);
+  }
 }
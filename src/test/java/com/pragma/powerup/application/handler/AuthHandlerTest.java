@@ -1,9 +1,13 @@
 package com.pragma.powerup.application.handler;
 
 import com.pragma.powerup.application.dto.request.LoginRequestDto;
+import com.pragma.powerup.application.dto.request.RefreshTokenRequestDto;
 import com.pragma.powerup.application.dto.response.AuthResponseDto;
 import com.pragma.powerup.application.handler.impl.AuthHandler;
 import com.pragma.powerup.domain.api.IAuthServicePort;
+import com.pragma.powerup.domain.api.IRefreshTokenServicePort;
+import com.pragma.powerup.domain.api.ITokenRevocationServicePort;
+import com.pragma.powerup.domain.model.AuthSessionModel;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.model.RoleEnum;
 import com.pragma.powerup.domain.spi.IJwtProviderPort;
@@ -19,6 +23,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +44,12 @@ class AuthHandlerTest {
     @Mock
     private IJwtProviderPort jwtProviderPort;
 
+    @Mock
+    private ITokenRevocationServicePort tokenRevocationServicePort;
+
+    @Mock
+    private IRefreshTokenServicePort refreshTokenServicePort;
+
     private AuthHandler authHandler;
 
     private UserModel adminUser;
@@ -47,7 +58,8 @@ class AuthHandlerTest {
 
     @BeforeEach
     void setUp() {
-        authHandler = new AuthHandler(authServicePort, jwtProviderPort);
+        authHandler = new AuthHandler(
+                authServicePort, jwtProviderPort, tokenRevocationServicePort, refreshTokenServicePort);
 
         adminUser = TestDataFactory.createValidAdminUser();
         customerUser = TestDataFactory.createValidCustomerUser();
@@ -288,6 +300,71 @@ class AuthHandlerTest {
         assertThat(result.getExpiresIn()).isPositive();
     }
 
+    @Test
+    @DisplayName("Should revoke the current token and its refresh-token family on logout")
+    void shouldRevokeCurrentTokenOnLogout() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        // When
+        authHandler.logout("jti-1", adminUser.getId(), expiresAt, "refresh-1");
+
+        // Then
+        verify(tokenRevocationServicePort).revokeToken("jti-1", adminUser.getId(), expiresAt);
+        verify(refreshTokenServicePort).revoke("refresh-1", adminUser.getId());
+        verifyNoInteractions(authServicePort, jwtProviderPort);
+    }
+
+    @Test
+    @DisplayName("Should revoke every token of a user")
+    void shouldRevokeAllTokensOfUser() {
+        // When
+        authHandler.revokeAllTokens(customerUser.getId());
+
+        // Then
+        verify(tokenRevocationServicePort).revokeAllTokens(customerUser.getId());
+        verify(refreshTokenServicePort).revokeAll(customerUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should return a refresh token on login")
+    void shouldReturnRefreshTokenOnLogin() {
+        // Given
+        LoginRequestDto loginRequest = TestDataFactory.createValidAdminLoginRequest();
+        when(authServicePort.authenticate(loginRequest.getEmail(), loginRequest.getPassword()))
+                .thenReturn(adminUser);
+        when(jwtProviderPort.generateToken(adminUser)).thenReturn("jwt-token");
+        when(refreshTokenServicePort.issue(adminUser.getId())).thenReturn("refresh-token");
+
+        // When
+        AuthResponseDto result = authHandler.login(loginRequest);
+
+        // Then
+        assertThat(result.getRefreshToken()).isEqualTo("refresh-token");
+    }
+
+    @Test
+    @DisplayName("Should renew the session from a refresh token without authenticating again")
+    void shouldRefreshWithoutAuthenticating() {
+        // Given
+        RefreshTokenRequestDto request = new RefreshTokenRequestDto();
+        request.setRefreshToken("refresh-token");
+        when(refreshTokenServicePort.refresh("refresh-token"))
+                .thenReturn(new AuthSessionModel(customerUser, "rotated-token"));
+        when(jwtProviderPort.generateToken(customerUser)).thenReturn("new-jwt");
+        when(jwtProviderPort.getExpirationMs()).thenReturn(900000L);
+
+        // When
+        AuthResponseDto result = authHandler.refresh(request);
+
+        // Then
+        assertThat(result.getToken()).isEqualTo("new-jwt");
+        assertThat(result.getRefreshToken()).isEqualTo("rotated-token");
+        assertThat(result.getUserId()).isEqualTo(customerUser.getId());
+        assertThat(result.getExpiresIn()).isEqualTo(900000L);
+        verifyNoInteractions(authServicePort);
+    }
+
     private static Stream<Arguments> validLoginScenarios() {
         return Stream.of(
                 Arguments.of(
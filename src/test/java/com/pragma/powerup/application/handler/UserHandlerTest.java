@@ -2,12 +2,17 @@ package com.pragma.powerup.application.handler;
 
 import com.pragma.powerup.application.dto.request.UserEmployeeRequestDto;
 import com.pragma.powerup.application.dto.request.UserRequestDto;
+import com.pragma.powerup.application.dto.response.UserPageResponseDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
 import com.pragma.powerup.application.handler.impl.UserHandler;
 import com.pragma.powerup.application.mapper.IUserRequestMapper;
 import com.pragma.powerup.application.mapper.IUserResponseMapper;
 import com.pragma.powerup.domain.api.IUserServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
 import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.model.UserPageModel;
 import com.pragma.powerup.shared.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +22,10 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -263,4 +271,44 @@ class UserHandlerTest {
         verify(userServicePort).getUserById(userId);
         verify(userResponseMapper).toResponse(null);
     }
+
+    @Test
+    @DisplayName("Should hand back an opaque cursor that resumes after the last listed id")
+    void shouldRoundTripListingCursor() {
+        // Given
+        UserModel owner = TestDataFactory.createValidOwnerUser();
+        UserResponseDto ownerDto = TestDataFactory.createOwnerResponseDto();
+        when(userServicePort.listUsers(any(UserFilterModel.class), isNull(), eq(1)))
+                .thenReturn(new UserPageModel(List.of(owner), owner.getId()));
+        when(userServicePort.listUsers(any(UserFilterModel.class), eq(owner.getId()), eq(1)))
+                .thenReturn(new UserPageModel(List.of(), null));
+        when(userResponseMapper.toResponse(owner)).thenReturn(ownerDto);
+
+        // When
+        UserPageResponseDto first = userHandler.listUsers("owner", 1L, true, null, 1);
+        UserPageResponseDto last = userHandler.listUsers("owner", 1L, true, first.getNextCursor(), 1);
+
+        // Then
+        assertThat(first.getUsers()).containsExactly(ownerDto);
+        assertThat(first.getNextCursor()).isNotBlank().doesNotContain(String.valueOf(owner.getId()));
+        assertThat(last.getUsers()).isEmpty();
+        assertThat(last.getNextCursor()).isNull();
+        verify(userServicePort, times(2)).listUsers(
+                argThat(filter -> filter.getRole() == RoleEnum.OWNER
+                        && filter.getRestaurantId().equals(1L)
+                        && filter.getActive()),
+                any(), eq(1));
+    }
+
+    @Test
+    @DisplayName("Should reject tampered cursors and unknown roles before reaching the domain")
+    void shouldRejectInvalidListingParameters() {
+        // When & Then
+        assertThatThrownBy(() -> userHandler.listUsers(null, null, null, "not-a-cursor", 10))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> userHandler.listUsers("chef", null, null, null, 10))
+                .isInstanceOf(DomainException.class);
+        verifyNoInteractions(userServicePort);
+    }
 }
@@ -0,0 +1,138 @@
+package com.pragma.powerup.application.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.powerup.application.dto.request.UserImportFormat;
+import com.pragma.powerup.application.dto.response.UserImportResultDto;
+import com.pragma.powerup.application.handler.impl.UserImportHandler;
+import com.pragma.powerup.domain.api.IUserImportServicePort;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserImportRecordModel;
+import com.pragma.powerup.domain.model.UserImportResultModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserImportHandler application layer logic.
+ * Tests NDJSON and CSV parsing into import records and result mapping.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Application: User Import Handler Tests")
+class UserImportHandlerTest {
+
+    @Mock
+    private IUserImportServicePort userImportServicePort;
+
+    private UserImportHandler userImportHandler;
+    private List<UserImportRecordModel> records;
+
+    @BeforeEach
+    void setUp() {
+        userImportHandler = new UserImportHandler(
+                userImportServicePort, new ObjectMapper().registerModule(new JavaTimeModule()));
+        records = new ArrayList<>();
+        doAnswer(inv -> {
+            Iterator<UserImportRecordModel> it = inv.getArgument(0);
+            Consumer<UserImportResultModel> sink = inv.getArgument(1);
+            while (it.hasNext()) {
+                UserImportRecordModel record = it.next();
+                records.add(record);
+                sink.accept(record.getParseError() == null
+                        ? UserImportResultModel.created(record.getLine(), record.getLine() * 10)
+                        : UserImportResultModel.rejected(record.getLine(), record.getParseError()));
+            }
+            return null;
+        }).when(userImportServicePort).importUsers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should parse NDJSON lines and report malformed ones without stopping")
+    void shouldParseNdjson() throws Exception {
+        // Given
+        String body = """
+                {"firstName":"Ana","lastName":"Diaz","document":"123","phone":"+573001112233","birthDate":"1990-02-01","email":"ana@test.com","password":"secret1","role":"owner"}
+                {not json
+
+                {"firstName":"Leo","email":"leo@test.com","role":"CHEF"}
+                """;
+        List<UserImportResultDto> results = new ArrayList<>();
+
+        // When
+        userImportHandler.importUsers(stream(body), UserImportFormat.NDJSON, results::add);
+
+        // Then
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).getUser().getRole()).isEqualTo(RoleEnum.OWNER);
+        assertThat(records.get(0).getUser().getBirthDate()).isEqualTo(LocalDate.of(1990, 2, 1));
+        assertThat(records.get(1).getParseError()).isEqualTo("Malformed line");
+        assertThat(records.get(2).getLine()).isEqualTo(4L);
+        assertThat(records.get(2).getParseError()).isEqualTo("Unknown role");
+        assertThat(results).extracting(UserImportResultDto::getStatus)
+                .containsExactly("CREATED", "REJECTED", "REJECTED");
+        assertThat(results.get(0).getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should parse CSV rows by header name, including quoted fields")
+    void shouldParseCsv() throws Exception {
+        // Given
+        String body = """
+                email,firstName,lastName,document,phone,birthDate,password,role,restaurantId
+                emp@test.com,Eva,Ruiz,456,+573004445566,1992-03-04,"pa,ss""word",EMPLOYEE,9
+                short,row
+                """;
+
+        // When
+        userImportHandler.importUsers(stream(body), UserImportFormat.CSV, result -> { });
+
+        // Then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getLine()).isEqualTo(2L);
+        assertThat(records.get(0).getUser().getPassword()).isEqualTo("pa,ss\"word");
+        assertThat(records.get(0).getUser().getRestaurantId()).isEqualTo(9L);
+        assertThat(records.get(0).getUser().getRole()).isEqualTo(RoleEnum.EMPLOYEE);
+        assertThat(records.get(1).getParseError()).isEqualTo("Expected 9 columns");
+    }
+
+    @Test
+    @DisplayName("Should reject lines with missing or too long names before they reach the service")
+    void shouldRejectInvalidNames() throws Exception {
+        // Given
+        String body = """
+                {"firstName":"Ana","email":"ana@test.com","role":"OWNER"}
+                {"firstName":" ","lastName":"Diaz","email":"ana@test.com","role":"OWNER"}
+                {"firstName":"Ana","lastName":"%s","email":"ana@test.com","role":"OWNER"}
+                {"firstName":"Ana","lastName":"%s","email":"ana@test.com","role":"OWNER"}
+                """.formatted("x".repeat(51), "x".repeat(50));
+
+        // When
+        userImportHandler.importUsers(stream(body), UserImportFormat.NDJSON, result -> { });
+
+        // Then
+        assertThat(records).extracting(UserImportRecordModel::getParseError)
+                .containsExactly(
+                        "Last name is required",
+                        "First name is required",
+                        "Last name must be at most 50 characters",
+                        null);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
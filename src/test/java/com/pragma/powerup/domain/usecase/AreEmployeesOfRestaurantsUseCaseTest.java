@@ -0,0 +1,94 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.EmployeeAssignmentModel;
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the batched is-employee check in UserUseCase.
+ * Tests that all pairs are answered in order from a single persistence call.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: Are Employees Of Restaurants Use Case Tests")
+class AreEmployeesOfRestaurantsUseCaseTest {
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    @Mock
+    private IPasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private IDateProviderPort dateProviderPort;
+
+    private UserUseCase userUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userUseCase = new UserUseCase(userPersistencePort, passwordEncoderPort, dateProviderPort);
+    }
+
+    @Test
+    @DisplayName("Should answer every pair in request order with one query")
+    void shouldAnswerPairsInOrder() {
+        // Given
+        when(userPersistencePort.findRestaurantIdsOfEmployees(Set.of(3L, 4L, 2L)))
+                .thenReturn(Map.of(3L, 1L, 4L, 7L));
+        List<EmployeeAssignmentModel> pairs = List.of(
+                new EmployeeAssignmentModel(3L, 1L),
+                new EmployeeAssignmentModel(3L, 7L),
+                new EmployeeAssignmentModel(4L, 7L),
+                new EmployeeAssignmentModel(2L, 1L),
+                new EmployeeAssignmentModel(4L, null));
+
+        // When
+        List<Boolean> result = userUseCase.areEmployeesOfRestaurants(pairs);
+
+        // Then
+        assertThat(result).containsExactly(true, false, true, false, false);
+        verify(userPersistencePort, times(1)).findRestaurantIdsOfEmployees(any());
+        verify(userPersistencePort, never()).existsEmployeeOfRestaurant(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not query persistence when no pair is complete")
+    void shouldSkipQueryForIncompletePairs() {
+        // When
+        List<Boolean> result = userUseCase.areEmployeesOfRestaurants(
+                List.of(new EmployeeAssignmentModel(null, 1L)));
+
+        // Then
+        assertThat(result).containsExactly(false);
+        verifyNoInteractions(userPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the maximum size")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<EmployeeAssignmentModel> pairs = Collections.nCopies(
+                UserUseCase.MAX_BATCH_SIZE + 1, new EmployeeAssignmentModel(3L, 1L));
+
+        // When & Then
+        assertThatThrownBy(() -> userUseCase.areEmployeesOfRestaurants(pairs))
+                .isInstanceOf(DomainException.class);
+        verifyNoInteractions(userPersistencePort);
+    }
+}
@@ -15,10 +15,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,13 +58,28 @@ class AuthenticateUserUseCaseTest {
         customerUser = TestDataFactory.createValidCustomerUser();
     }
 
+    @Test
+    @DisplayName("Should look up the canonical email whatever case the client sends")
+    void shouldLookUpCanonicalEmail() {
+        // Given
+        when(userPersistencePort.findCredentialsByEmail("owner@test.com")).thenReturn(ownerUser);
+        when(passwordEncoderPort.matches("owner123", ownerUser.getPassword())).thenReturn(true);
+
+        // When
+        UserModel result = authenticateUserUseCase.authenticate(" Owner@TEST.com", "owner123");
+
+        // Then
+        assertThat(result).isSameAs(ownerUser);
+        verify(userPersistencePort).findCredentialsByEmail("owner@test.com");
+    }
+
     @Test
     @DisplayName("Should authenticate admin user successfully")
     void shouldAuthenticateAdminUserSuccessfully() {
         // Given
         String email = "admin@test.com";
         String password = "admin123";
-        when(userPersistencePort.findByEmail(email)).thenReturn(adminUser);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(adminUser);
         when(passwordEncoderPort.matches(password, adminUser.getPassword())).thenReturn(true);
 
         // When
@@ -70,7 +90,7 @@ class AuthenticateUserUseCaseTest {
         assertThat(result.getEmail()).isEqualTo(email);
         assertThat(result.getRole()).isEqualTo(adminUser.getRole());
         assertThat(result.getActive()).isTrue();
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
         verify(passwordEncoderPort).matches(password, adminUser.getPassword());
     }
 
@@ -80,7 +100,7 @@ class AuthenticateUserUseCaseTest {
         // Given
         String email = "owner@test.com";
         String password = "owner123";
-        when(userPersistencePort.findByEmail(email)).thenReturn(ownerUser);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(ownerUser);
         when(passwordEncoderPort.matches(password, ownerUser.getPassword())).thenReturn(true);
 
         // When
@@ -91,7 +111,7 @@ class AuthenticateUserUseCaseTest {
         assertThat(result.getEmail()).isEqualTo(email);
         assertThat(result.getRole()).isEqualTo(ownerUser.getRole());
         assertThat(result.getRestaurantId()).isEqualTo(ownerUser.getRestaurantId());
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
         verify(passwordEncoderPort).matches(password, ownerUser.getPassword());
     }
 
@@ -101,7 +121,7 @@ class AuthenticateUserUseCaseTest {
         // Given
         String email = "customer@test.com";
         String password = "customer123";
-        when(userPersistencePort.findByEmail(email)).thenReturn(customerUser);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(customerUser);
         when(passwordEncoderPort.matches(password, customerUser.getPassword())).thenReturn(true);
 
         // When
@@ -112,7 +132,7 @@ class AuthenticateUserUseCaseTest {
         assertThat(result.getEmail()).isEqualTo(email);
         assertThat(result.getRole()).isEqualTo(customerUser.getRole());
         assertThat(result.getRestaurantId()).isNull();
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
         verify(passwordEncoderPort).matches(password, customerUser.getPassword());
     }
 
@@ -122,14 +142,14 @@ class AuthenticateUserUseCaseTest {
         // Given
         String email = "notfound@test.com";
         String password = "customer123";
-        when(userPersistencePort.findByEmail(email)).thenReturn(null);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(null);
 
         // When & Then
         assertThatThrownBy(() -> authenticateUserUseCase.authenticate(email, password))
                 .isInstanceOf(DomainException.class)
                 .hasMessage("Invalid credentials");
 
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
     }
 
     @Test
@@ -138,7 +158,7 @@ class AuthenticateUserUseCaseTest {
         // Given
         String email = "admin@test.com";
         String wrongPassword = "wrongpassword";
-        when(userPersistencePort.findByEmail(email)).thenReturn(adminUser);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(adminUser);
         when(passwordEncoderPort.matches(wrongPassword, adminUser.getPassword())).thenReturn(false);
 
         // When & Then
@@ -146,7 +166,7 @@ class AuthenticateUserUseCaseTest {
                 .isInstanceOf(DomainException.class)
                 .hasMessage("Invalid credentials");
 
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
         verify(passwordEncoderPort).matches(wrongPassword, adminUser.getPassword());
     }
 
@@ -157,14 +177,14 @@ class AuthenticateUserUseCaseTest {
         String email = "inactive@test.com";
         String password = "customer123";
         UserModel inactiveUser = TestDataFactory.createInactiveUser();
-        when(userPersistencePort.findByEmail(email)).thenReturn(inactiveUser);
+        when(userPersistencePort.findCredentialsByEmail(email)).thenReturn(inactiveUser);
 
         // When & Then
         assertThatThrownBy(() -> authenticateUserUseCase.authenticate(email, password))
                 .isInstanceOf(DomainException.class)
                 .hasMessage("User is not active");
 
-        verify(userPersistencePort).findByEmail(email);
+        verify(userPersistencePort).findCredentialsByEmail(email);
     }
 
     @Test
@@ -191,7 +211,7 @@ class AuthenticateUserUseCaseTest {
     void shouldAuthenticateUsersWithDifferentRoles(UserModel user, String description) {
         // Given
         String testPassword = "testPassword123";
-        when(userPersistencePort.findByEmail(user.getEmail())).thenReturn(user);
+        when(userPersistencePort.findCredentialsByEmail(user.getEmail())).thenReturn(user);
         when(passwordEncoderPort.matches(testPassword, user.getPassword())).thenReturn(true);
 
         // When
@@ -203,6 +223,63 @@ class AuthenticateUserUseCaseTest {
         assertThat(result.getEmail()).isEqualTo(user.getEmail());
     }
 
+    @Test
+    @DisplayName("Should rehash an outdated password hash after a successful login")
+    void shouldRehashOutdatedPasswordAfterLogin() {
+        // Given
+        List<Runnable> scheduled = new ArrayList<>();
+        authenticateUserUseCase = new AuthenticateUserUseCase(userPersistencePort, passwordEncoderPort, scheduled::add);
+        String oldHash = adminUser.getPassword();
+        when(userPersistencePort.findCredentialsByEmail(adminUser.getEmail())).thenReturn(adminUser);
+        when(passwordEncoderPort.matches("admin123", oldHash)).thenReturn(true);
+        when(passwordEncoderPort.needsUpgrade(oldHash)).thenReturn(true);
+        when(passwordEncoderPort.encode("admin123")).thenReturn("$2a$12$upgradedHash");
+
+        // When
+        UserModel result = authenticateUserUseCase.authenticate(adminUser.getEmail(), "admin123");
+
+        // Then - the login returns before the rehash runs
+        assertThat(result).isEqualTo(adminUser);
+        verify(userPersistencePort, never()).updatePassword(any(), anyString(), anyString());
+        assertThat(scheduled).hasSize(1);
+
+        scheduled.get(0).run();
+        verify(userPersistencePort).updatePassword(adminUser.getId(), oldHash, "$2a$12$upgradedHash");
+    }
+
+    @Test
+    @DisplayName("Should not rehash a password that is already up to date")
+    void shouldNotRehashUpToDatePassword() {
+        // Given
+        when(userPersistencePort.findCredentialsByEmail(adminUser.getEmail())).thenReturn(adminUser);
+        when(passwordEncoderPort.matches("admin123", adminUser.getPassword())).thenReturn(true);
+        when(passwordEncoderPort.needsUpgrade(adminUser.getPassword())).thenReturn(false);
+
+        // When
+        authenticateUserUseCase.authenticate(adminUser.getEmail(), "admin123");
+
+        // Then
+        verify(passwordEncoderPort, never()).encode(anyString());
+        verify(userPersistencePort, never()).updatePassword(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not fail the login when the rehash fails")
+    void shouldNotFailLoginWhenRehashFails() {
+        // Given
+        when(userPersistencePort.findCredentialsByEmail(adminUser.getEmail())).thenReturn(adminUser);
+        when(passwordEncoderPort.matches("admin123", adminUser.getPassword())).thenReturn(true);
+        when(passwordEncoderPort.needsUpgrade(adminUser.getPassword())).thenReturn(true);
+        when(passwordEncoderPort.encode("admin123")).thenThrow(new IllegalStateException("pool saturated"));
+
+        // When
+        UserModel result = authenticateUserUseCase.authenticate(adminUser.getEmail(), "admin123");
+
+        // Then
+        assertThat(result).isEqualTo(adminUser);
+        verify(userPersistencePort, never()).updatePassword(any(), anyString(), anyString());
+    }
+
     private static Stream<Arguments> validUserRoles() {
         return Stream.of(
                 Arguments.of(TestDataFactory.createValidAdminUser(), "Admin user authentication"),
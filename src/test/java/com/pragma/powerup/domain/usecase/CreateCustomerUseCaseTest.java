@@ -6,6 +6,7 @@ import com.pragma.powerup.domain.spi.IUserPersistencePort;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.exception.DuplicateUserException;
 import com.pragma.powerup.shared.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -57,13 +58,29 @@ class CreateCustomerUseCaseTest {
         savedCustomer.setPassword("$2a$10$encodedCustomerPassword"); // Encoded password
     }
 
+    @Test
+    @DisplayName("Should store the email in canonical form")
+    void shouldStoreCanonicalEmail() {
+        // Given
+        validCustomerRequest.setEmail("  NewCustomer@Test.COM ");
+        when(dateProviderPort.today()).thenReturn(LocalDate.now());
+        when(passwordEncoderPort.encode(validCustomerRequest.getPassword()))
+                .thenReturn("$2a$10$encodedCustomerPassword");
+        when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedCustomer);
+
+        // When
+        createCustomerUseCase.createCustomer(validCustomerRequest);
+
+        // Then
+        verify(userPersistencePort).existsByEmail("newcustomer@test.com");
+        verify(userPersistencePort).save(argThat(user -> "newcustomer@test.com".equals(user.getEmail())));
+    }
+
     @Test
     @DisplayName("Should create customer successfully with valid data")
     void shouldCreateCustomerSuccessfully() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validCustomerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validCustomerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validCustomerRequest.getPassword()))
                 .thenReturn("$2a$10$encodedCustomerPassword");
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedCustomer);
@@ -86,7 +103,7 @@ class CreateCustomerUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should throw exception when email already exists")
+    @DisplayName("Should reject an existing email before hashing the password")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
@@ -94,24 +111,38 @@ class CreateCustomerUseCaseTest {
 
         // When & Then
         assertThatThrownBy(() -> createCustomerUseCase.createCustomer(validCustomerRequest))
-                .isInstanceOf(DomainException.class)
+                .isInstanceOf(DuplicateUserException.class)
                 .hasMessage("Email already registered");
 
-        verify(dateProviderPort).today();
-        verify(userPersistencePort).existsByEmail(validCustomerRequest.getEmail());
-        verify(userPersistencePort, never()).existsByDocument(any());
         verify(passwordEncoderPort, never()).encode(any());
         verify(userPersistencePort, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should throw exception when document already exists")
+    @DisplayName("Should reject an existing document before hashing the password")
     void shouldThrowExceptionWhenDocumentAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validCustomerRequest.getEmail())).thenReturn(false);
         when(userPersistencePort.existsByDocument(validCustomerRequest.getDocument())).thenReturn(true);
 
+        // When & Then
+        assertThatThrownBy(() -> createCustomerUseCase.createCustomer(validCustomerRequest))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Document already registered");
+
+        verify(passwordEncoderPort, never()).encode(any());
+        verify(userPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate that slipped past the check from the insert")
+    void shouldThrowExceptionWhenConcurrentRegistrationWins() {
+        // Given
+        when(dateProviderPort.today()).thenReturn(LocalDate.now());
+        when(passwordEncoderPort.encode(validCustomerRequest.getPassword())).thenReturn("$2a$10$encoded");
+        when(userPersistencePort.save(any(UserModel.class)))
+                .thenThrow(new DuplicateUserException(DuplicateUserException.Field.DOCUMENT));
+
         // When & Then
         assertThatThrownBy(() -> createCustomerUseCase.createCustomer(validCustomerRequest))
                 .isInstanceOf(DomainException.class)
@@ -120,8 +151,7 @@ class CreateCustomerUseCaseTest {
         verify(dateProviderPort).today();
         verify(userPersistencePort).existsByEmail(validCustomerRequest.getEmail());
         verify(userPersistencePort).existsByDocument(validCustomerRequest.getDocument());
-        verify(passwordEncoderPort, never()).encode(any());
-        verify(userPersistencePort, never()).save(any());
+        verify(userPersistencePort).save(any(UserModel.class));
     }
 
     @Test
@@ -133,8 +163,6 @@ class CreateCustomerUseCaseTest {
         validCustomerRequest.setPassword(plainPassword);
 
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validCustomerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validCustomerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(plainPassword)).thenReturn(encodedPassword);
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedCustomer);
 
@@ -152,8 +180,6 @@ class CreateCustomerUseCaseTest {
     void shouldSetCustomerRoleAndActiveStatusWithNullRestaurant() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validCustomerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validCustomerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validCustomerRequest.getPassword()))
                 .thenReturn("$2a$10$encodedCustomerPassword");
         when(userPersistencePort.save(any(UserModel.class))).thenAnswer(invocation -> {
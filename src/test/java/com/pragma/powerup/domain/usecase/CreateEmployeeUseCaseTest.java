@@ -6,6 +6,7 @@ import com.pragma.powerup.domain.spi.IUserPersistencePort;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.exception.DuplicateUserException;
 import com.pragma.powerup.shared.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -64,8 +65,6 @@ class CreateEmployeeUseCaseTest {
     void shouldCreateEmployeeSuccessfully() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validEmployeeRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validEmployeeRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validEmployeeRequest.getPassword()))
                 .thenReturn("$2a$10$encodedEmployeePassword");
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedEmployee);
@@ -88,7 +87,7 @@ class CreateEmployeeUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should throw exception when email already exists")
+    @DisplayName("Should reject an existing email before hashing the password")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
@@ -96,24 +95,38 @@ class CreateEmployeeUseCaseTest {
 
         // When & Then
         assertThatThrownBy(() -> createEmployeeUseCase.createEmployee(validEmployeeRequest))
-                .isInstanceOf(DomainException.class)
+                .isInstanceOf(DuplicateUserException.class)
                 .hasMessage("Email already registered");
 
-        verify(dateProviderPort).today();
-        verify(userPersistencePort).existsByEmail(validEmployeeRequest.getEmail());
-        verify(userPersistencePort, never()).existsByDocument(any());
         verify(passwordEncoderPort, never()).encode(any());
         verify(userPersistencePort, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should throw exception when document already exists")
+    @DisplayName("Should reject an existing document before hashing the password")
     void shouldThrowExceptionWhenDocumentAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validEmployeeRequest.getEmail())).thenReturn(false);
         when(userPersistencePort.existsByDocument(validEmployeeRequest.getDocument())).thenReturn(true);
 
+        // When & Then
+        assertThatThrownBy(() -> createEmployeeUseCase.createEmployee(validEmployeeRequest))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Document already registered");
+
+        verify(passwordEncoderPort, never()).encode(any());
+        verify(userPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate that slipped past the check from the insert")
+    void shouldThrowExceptionWhenConcurrentRegistrationWins() {
+        // Given
+        when(dateProviderPort.today()).thenReturn(LocalDate.now());
+        when(passwordEncoderPort.encode(validEmployeeRequest.getPassword())).thenReturn("$2a$10$encoded");
+        when(userPersistencePort.save(any(UserModel.class)))
+                .thenThrow(new DuplicateUserException(DuplicateUserException.Field.DOCUMENT));
+
         // When & Then
         assertThatThrownBy(() -> createEmployeeUseCase.createEmployee(validEmployeeRequest))
                 .isInstanceOf(DomainException.class)
@@ -122,8 +135,7 @@ class CreateEmployeeUseCaseTest {
         verify(dateProviderPort).today();
         verify(userPersistencePort).existsByEmail(validEmployeeRequest.getEmail());
         verify(userPersistencePort).existsByDocument(validEmployeeRequest.getDocument());
-        verify(passwordEncoderPort, never()).encode(any());
-        verify(userPersistencePort, never()).save(any());
+        verify(userPersistencePort).save(any(UserModel.class));
     }
 
     @Test
@@ -154,8 +166,6 @@ class CreateEmployeeUseCaseTest {
         validEmployeeRequest.setPassword(plainPassword);
 
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validEmployeeRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validEmployeeRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(plainPassword)).thenReturn(encodedPassword);
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedEmployee);
 
@@ -173,8 +183,6 @@ class CreateEmployeeUseCaseTest {
     void shouldSetEmployeeRoleAndActiveStatus() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validEmployeeRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validEmployeeRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validEmployeeRequest.getPassword()))
                 .thenReturn("$2a$10$encodedEmployeePassword");
         when(userPersistencePort.save(any(UserModel.class))).thenAnswer(invocation -> {
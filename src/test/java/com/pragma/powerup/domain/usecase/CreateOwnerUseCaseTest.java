@@ -6,6 +6,7 @@ import com.pragma.powerup.domain.spi.IUserPersistencePort;
 import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
 import com.pragma.powerup.domain.spi.IDateProviderPort;
 import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.exception.DuplicateUserException;
 import com.pragma.powerup.shared.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -62,8 +63,6 @@ class CreateOwnerUseCaseTest {
     void shouldCreateOwnerSuccessfully() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validOwnerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validOwnerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validOwnerRequest.getPassword())).thenReturn("$2a$10$encodedOwnerPassword");
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedOwner);
 
@@ -84,7 +83,7 @@ class CreateOwnerUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should throw exception when email already exists")
+    @DisplayName("Should reject an existing email before hashing the password")
     void shouldThrowExceptionWhenEmailAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
@@ -92,24 +91,38 @@ class CreateOwnerUseCaseTest {
 
         // When & Then
         assertThatThrownBy(() -> createOwnerUseCase.createOwner(validOwnerRequest))
-                .isInstanceOf(DomainException.class)
+                .isInstanceOf(DuplicateUserException.class)
                 .hasMessage("Email already registered");
 
-        verify(dateProviderPort).today();
-        verify(userPersistencePort).existsByEmail(validOwnerRequest.getEmail());
-        verify(userPersistencePort, never()).existsByDocument(any());
         verify(passwordEncoderPort, never()).encode(any());
         verify(userPersistencePort, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should throw exception when document already exists")
+    @DisplayName("Should reject an existing document before hashing the password")
     void shouldThrowExceptionWhenDocumentAlreadyExists() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validOwnerRequest.getEmail())).thenReturn(false);
         when(userPersistencePort.existsByDocument(validOwnerRequest.getDocument())).thenReturn(true);
 
+        // When & Then
+        assertThatThrownBy(() -> createOwnerUseCase.createOwner(validOwnerRequest))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Document already registered");
+
+        verify(passwordEncoderPort, never()).encode(any());
+        verify(userPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate that slipped past the check from the insert")
+    void shouldThrowExceptionWhenConcurrentRegistrationWins() {
+        // Given
+        when(dateProviderPort.today()).thenReturn(LocalDate.now());
+        when(passwordEncoderPort.encode(validOwnerRequest.getPassword())).thenReturn("$2a$10$encoded");
+        when(userPersistencePort.save(any(UserModel.class)))
+                .thenThrow(new DuplicateUserException(DuplicateUserException.Field.DOCUMENT));
+
         // When & Then
         assertThatThrownBy(() -> createOwnerUseCase.createOwner(validOwnerRequest))
                 .isInstanceOf(DomainException.class)
@@ -118,8 +131,7 @@ class CreateOwnerUseCaseTest {
         verify(dateProviderPort).today();
         verify(userPersistencePort).existsByEmail(validOwnerRequest.getEmail());
         verify(userPersistencePort).existsByDocument(validOwnerRequest.getDocument());
-        verify(passwordEncoderPort, never()).encode(any());
-        verify(userPersistencePort, never()).save(any());
+        verify(userPersistencePort).save(any(UserModel.class));
     }
 
     @Test
@@ -131,8 +143,6 @@ class CreateOwnerUseCaseTest {
         validOwnerRequest.setPassword(plainPassword);
 
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validOwnerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validOwnerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(plainPassword)).thenReturn(encodedPassword);
         when(userPersistencePort.save(any(UserModel.class))).thenReturn(savedOwner);
 
@@ -150,8 +160,6 @@ class CreateOwnerUseCaseTest {
     void shouldSetOwnerRoleAndActiveStatus() {
         // Given
         when(dateProviderPort.today()).thenReturn(LocalDate.now());
-        when(userPersistencePort.existsByEmail(validOwnerRequest.getEmail())).thenReturn(false);
-        when(userPersistencePort.existsByDocument(validOwnerRequest.getDocument())).thenReturn(false);
         when(passwordEncoderPort.encode(validOwnerRequest.getPassword())).thenReturn("$2a$10$encodedOwnerPassword");
         when(userPersistencePort.save(any(UserModel.class))).thenAnswer(invocation -> {
             UserModel savedUser = invocation.getArgument(0);
@@ -0,0 +1,96 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the batch user lookup in UserUseCase.
+ * Tests de-duplication, missing id reporting and the batch size limit.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: Get Users By Ids Use Case Tests")
+class GetUsersByIdsUseCaseTest {
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    @Mock
+    private IPasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private IDateProviderPort dateProviderPort;
+
+    private UserUseCase userUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userUseCase = new UserUseCase(userPersistencePort, passwordEncoderPort, dateProviderPort);
+    }
+
+    @Test
+    @DisplayName("Should resolve distinct ids in one call and report the missing ones in order")
+    void shouldReportMissingIds() {
+        // Given
+        UserModel owner = TestDataFactory.createValidOwnerUser();
+        doAnswer(invocation -> {
+            Consumer<UserModel> consumer = invocation.getArgument(1);
+            consumer.accept(owner);
+            return null;
+        }).when(userPersistencePort).findAllByIds(eq(List.of(99L, 2L, 98L)), any());
+        List<UserModel> found = new ArrayList<>();
+
+        // When
+        List<Long> missing =
+                userUseCase.getUsersByIds(Arrays.asList(99L, 2L, null, 98L, 2L), found::add);
+
+        // Then
+        assertThat(found).containsExactly(owner);
+        assertThat(missing).containsExactly(99L, 98L);
+        verify(userPersistencePort, times(1)).findAllByIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not query persistence for an empty batch")
+    void shouldSkipEmptyBatch() {
+        // When
+        List<Long> missing = userUseCase.getUsersByIds(List.of(), user -> { });
+
+        // Then
+        assertThat(missing).isEmpty();
+        verifyNoInteractions(userPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the maximum size")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<Long> ids =
+                LongStream.rangeClosed(1, UserUseCase.MAX_BATCH_SIZE + 1L).boxed().toList();
+
+        // When & Then
+        assertThatThrownBy(() -> userUseCase.getUsersByIds(ids, user -> { }))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining(String.valueOf(UserUseCase.MAX_BATCH_SIZE));
+        verifyNoInteractions(userPersistencePort);
+    }
+}
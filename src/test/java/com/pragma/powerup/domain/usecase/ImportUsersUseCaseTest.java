@@ -0,0 +1,168 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserImportRecordModel;
+import com.pragma.powerup.domain.model.UserImportResultModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ImportUsersUseCase domain logic.
+ * Tests per-line validation, set-based duplicate checks, chunked saves and the row-by-row
+ * fallback when a chunk cannot be stored.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Domain: Import Users Use Case Tests")
+class ImportUsersUseCaseTest {
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    @Mock
+    private IPasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private IDateProviderPort dateProviderPort;
+
+    private final AtomicLong ids = new AtomicLong(100);
+    private List<UserImportResultModel> results;
+
+    @BeforeEach
+    void setUp() {
+        results = new ArrayList<>();
+        when(dateProviderPort.today()).thenReturn(LocalDate.of(2025, 1, 1));
+        when(passwordEncoderPort.encode(anyString()))
+                .thenAnswer(inv -> "hashed:" + inv.getArgument(0));
+        when(userPersistencePort.findExistingEmails(any())).thenReturn(Set.of());
+        when(userPersistencePort.findExistingDocuments(any())).thenReturn(Set.of());
+        when(userPersistencePort.saveAll(anyList())).thenAnswer(inv -> {
+            List<UserModel> users = inv.getArgument(0);
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+    }
+
+    private ImportUsersUseCase useCase(int batchSize) {
+        return new ImportUsersUseCase(
+                userPersistencePort, passwordEncoderPort, dateProviderPort, Runnable::run, batchSize);
+    }
+
+    private static UserModel owner(String email, String document) {
+        UserModel user = TestDataFactory.createValidOwnerRequestModel();
+        user.setEmail(email);
+        user.setDocument(document);
+        user.setRole(RoleEnum.OWNER);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should create valid lines in one batch and reject invalid ones in line order")
+    void shouldImportValidAndRejectInvalidLines() {
+        // Given
+        UserModel invalidEmail = owner("not-an-email", "111");
+        UserModel admin = owner("admin2@test.com", "222");
+        admin.setRole(RoleEnum.ADMIN);
+        List<UserImportRecordModel> records = List.of(
+                UserImportRecordModel.parsed(1, owner("a@test.com", "1")),
+                UserImportRecordModel.unparseable(2, "Malformed line"),
+                UserImportRecordModel.parsed(3, invalidEmail),
+                UserImportRecordModel.parsed(4, admin),
+                UserImportRecordModel.parsed(5, owner("b@test.com", "2")));
+
+        // When
+        useCase(10).importUsers(records.iterator(), results::add);
+
+        // Then
+        assertThat(results).extracting(UserImportResultModel::getLine)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results).extracting(UserImportResultModel::isCreated)
+                .containsExactly(true, false, false, false, true);
+        assertThat(results.get(1).getMessage()).isEqualTo("Malformed line");
+        assertThat(results.get(2).getMessage()).isEqualTo("Invalid email");
+        verify(userPersistencePort, times(1)).saveAll(argThat(users ->
+                users.size() == 2 && users.get(0).getPassword().equals("hashed:newowner123")));
+        verify(passwordEncoderPort, times(2)).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject emails already registered and documents repeated within the import")
+    void shouldRejectDuplicates() {
+        // Given
+        when(userPersistencePort.findExistingEmails(any())).thenReturn(Set.of("taken@test.com"));
+        List<UserImportRecordModel> records = List.of(
+                UserImportRecordModel.parsed(1, owner("taken@test.com", "1")),
+                UserImportRecordModel.parsed(2, owner("c@test.com", "7")),
+                UserImportRecordModel.parsed(3, owner("d@test.com", "7")));
+
+        // When
+        useCase(10).importUsers(records.iterator(), results::add);
+
+        // Then
+        assertThat(results).extracting(UserImportResultModel::getMessage)
+                .containsExactly("Email already registered", null, "Document already registered");
+        verify(passwordEncoderPort, times(1)).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should store the input in chunks of the configured batch size")
+    void shouldStoreInChunks() {
+        // Given
+        List<UserImportRecordModel> records = List.of(
+                UserImportRecordModel.parsed(1, owner("a@test.com", "1")),
+                UserImportRecordModel.parsed(2, owner("b@test.com", "2")),
+                UserImportRecordModel.parsed(3, owner("c@test.com", "3")));
+
+        // When
+        useCase(2).importUsers(records.iterator(), results::add);
+
+        // Then
+        assertThat(results).allMatch(UserImportResultModel::isCreated);
+        verify(userPersistencePort, times(2)).saveAll(anyList());
+        verify(userPersistencePort, times(2)).findExistingEmails(any());
+    }
+
+    @Test
+    @DisplayName("Should retry row by row when a batch insert fails")
+    void shouldFallBackToSingleSaves() {
+        // Given
+        UserModel first = owner("a@test.com", "1");
+        UserModel second = owner("b@test.com", "2");
+        when(userPersistencePort.saveAll(anyList())).thenThrow(new IllegalStateException("unique"));
+        when(userPersistencePort.save(first)).thenAnswer(inv -> {
+            first.setId(7L);
+            return first;
+        });
+        when(userPersistencePort.save(second)).thenThrow(new IllegalStateException("unique"));
+
+        // When
+        useCase(10).importUsers(List.of(
+                UserImportRecordModel.parsed(1, first),
+                UserImportRecordModel.parsed(2, second)).iterator(), results::add);
+
+        // Then
+        assertThat(results.get(0).isCreated()).isTrue();
+        assertThat(results.get(0).getUserId()).isEqualTo(7L);
+        assertThat(results.get(1).isCreated()).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the is-employee check in UserUseCase.
+ * Tests that the check is answered by the persistence projection, never by loading the user.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: Is Employee Of Restaurant Use Case Tests")
+class IsEmployeeOfRestaurantUseCaseTest {
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    @Mock
+    private IPasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private IDateProviderPort dateProviderPort;
+
+    private UserUseCase userUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userUseCase = new UserUseCase(userPersistencePort, passwordEncoderPort, dateProviderPort);
+    }
+
+    @Test
+    @DisplayName("Should answer from the existence query without loading the user")
+    void shouldUseExistenceQuery() {
+        // Given
+        when(userPersistencePort.existsEmployeeOfRestaurant(4L, 1L)).thenReturn(true);
+
+        // When
+        boolean result = userUseCase.isEmployeeOfRestaurant(4L, 1L);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(userPersistencePort, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should return false when the user is not an employee of the restaurant")
+    void shouldReturnFalseWhenNotEmployee() {
+        // Given
+        when(userPersistencePort.existsEmployeeOfRestaurant(2L, 1L)).thenReturn(false);
+
+        // When
+        boolean result = userUseCase.isEmployeeOfRestaurant(2L, 1L);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return false without querying when the restaurant id is missing")
+    void shouldReturnFalseWhenRestaurantIdIsNull() {
+        // When
+        boolean result = userUseCase.isEmployeeOfRestaurant(4L, null);
+
+        // Then
+        assertThat(result).isFalse();
+        verifyNoInteractions(userPersistencePort);
+    }
+}
@@ -0,0 +1,99 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.model.UserPageModel;
+import com.pragma.powerup.domain.spi.IDateProviderPort;
+import com.pragma.powerup.domain.spi.IPasswordEncoderPort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the keyset-paginated user listing in UserUseCase.
+ * Tests next-page detection with one extra row and the page size limits.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: List Users Use Case Tests")
+class ListUsersUseCaseTest {
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    @Mock
+    private IPasswordEncoderPort passwordEncoderPort;
+
+    @Mock
+    private IDateProviderPort dateProviderPort;
+
+    private UserUseCase userUseCase;
+
+    private final UserFilterModel employeesOfRestaurant =
+            new UserFilterModel(RoleEnum.EMPLOYEE, 1L, true);
+
+    @BeforeEach
+    void setUp() {
+        userUseCase = new UserUseCase(userPersistencePort, passwordEncoderPort, dateProviderPort);
+    }
+
+    @Test
+    @DisplayName("Should return the page and continue after its last id when one more row exists")
+    void shouldReturnNextAfterIdWhenMoreRowsExist() {
+        // Given
+        when(userPersistencePort.findPage(employeesOfRestaurant, 10L, 4)).thenReturn(users(11, 12, 13, 14));
+
+        // When
+        UserPageModel page = userUseCase.listUsers(employeesOfRestaurant, 10L, 3);
+
+        // Then
+        assertThat(page.getUsers()).extracting(UserModel::getId).containsExactly(11L, 12L, 13L);
+        assertThat(page.getNextAfterId()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("Should mark the last page when no extra row comes back")
+    void shouldMarkLastPage() {
+        // Given
+        when(userPersistencePort.findPage(employeesOfRestaurant, null, 4)).thenReturn(users(2, 3));
+
+        // When
+        UserPageModel page = userUseCase.listUsers(employeesOfRestaurant, null, 3);
+
+        // Then
+        assertThat(page.getUsers()).extracting(UserModel::getId).containsExactly(2L, 3L);
+        assertThat(page.getNextAfterId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes outside the allowed range without querying")
+    void shouldRejectInvalidPageSize() {
+        // When & Then
+        assertThatThrownBy(() -> userUseCase.listUsers(employeesOfRestaurant, null, 0))
+                .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> userUseCase.listUsers(
+                employeesOfRestaurant, null, UserUseCase.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(DomainException.class);
+        verifyNoInteractions(userPersistencePort);
+    }
+
+    private List<UserModel> users(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            UserModel user = new UserModel();
+            user.setId(id);
+            return user;
+        }).toList();
+    }
+}
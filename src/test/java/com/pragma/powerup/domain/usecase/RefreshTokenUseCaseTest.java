@@ -0,0 +1,200 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.AuthSessionModel;
+import com.pragma.powerup.domain.model.RefreshTokenModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenUseCase domain logic.
+ * Tests issuing, rotation and reuse detection of refresh tokens without external dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: Refresh Token Use Case Tests")
+class RefreshTokenUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+    private static final Duration TTL = Duration.ofDays(14);
+
+    @Mock
+    private IRefreshTokenPersistencePort refreshTokenPersistencePort;
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    private UserModel customerUser;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenUseCase = new RefreshTokenUseCase(
+                refreshTokenPersistencePort, userPersistencePort, Clock.fixed(NOW, ZoneOffset.UTC), TTL);
+        customerUser = TestDataFactory.createValidCustomerUser();
+    }
+
+    @Test
+    @DisplayName("Should issue an opaque token and store only its hash")
+    void shouldIssueOpaqueTokenAndStoreHash() {
+        // When
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+
+        // Then
+        ArgumentCaptor<RefreshTokenModel> captor = ArgumentCaptor.forClass(RefreshTokenModel.class);
+        verify(refreshTokenPersistencePort).save(captor.capture());
+        RefreshTokenModel stored = captor.getValue();
+        assertThat(token).hasSizeGreaterThanOrEqualTo(43);
+        assertThat(stored.getTokenHash()).isNotBlank().isNotEqualTo(token);
+        assertThat(stored.getUserId()).isEqualTo(customerUser.getId());
+        assertThat(stored.getFamilyId()).isNotBlank();
+        assertThat(stored.getExpiresAt()).isEqualTo(NOW.plus(TTL));
+    }
+
+    @Test
+    @DisplayName("Should rotate a valid refresh token within the same family")
+    void shouldRotateValidRefreshToken() {
+        // Given
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+        RefreshTokenModel stored = captureStored();
+        stored.setId(10L);
+        when(refreshTokenPersistencePort.findByTokenHash(stored.getTokenHash())).thenReturn(stored);
+        when(refreshTokenPersistencePort.markUsed(10L)).thenReturn(true);
+        when(userPersistencePort.findById(customerUser.getId())).thenReturn(customerUser);
+
+        // When
+        AuthSessionModel session = refreshTokenUseCase.refresh(token);
+
+        // Then
+        assertThat(session.getUser()).isEqualTo(customerUser);
+        assertThat(session.getRefreshToken()).isNotEqualTo(token);
+        ArgumentCaptor<RefreshTokenModel> captor = ArgumentCaptor.forClass(RefreshTokenModel.class);
+        verify(refreshTokenPersistencePort, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(stored.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when a used token is replayed")
+    void shouldRevokeFamilyOnReuse() {
+        // Given
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+        RefreshTokenModel stored = captureStored();
+        stored.setId(10L);
+        when(refreshTokenPersistencePort.findByTokenHash(stored.getTokenHash())).thenReturn(stored);
+        when(refreshTokenPersistencePort.markUsed(10L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenUseCase.refresh(token))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Invalid refresh token");
+
+        verify(refreshTokenPersistencePort).revokeFamily(stored.getFamilyId());
+        verify(userPersistencePort, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the family of the user's own refresh token on logout")
+    void shouldRevokeOwnFamilyOnLogout() {
+        // Given
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+        RefreshTokenModel stored = captureStored();
+        when(refreshTokenPersistencePort.findByTokenHash(stored.getTokenHash())).thenReturn(stored);
+
+        // When
+        refreshTokenUseCase.revoke(token, customerUser.getId());
+
+        // Then
+        verify(refreshTokenPersistencePort).revokeFamily(stored.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("Should leave another user's refresh token untouched on logout")
+    void shouldIgnoreForeignRefreshTokenOnLogout() {
+        // Given
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+        RefreshTokenModel stored = captureStored();
+        when(refreshTokenPersistencePort.findByTokenHash(stored.getTokenHash())).thenReturn(stored);
+
+        // When
+        refreshTokenUseCase.revoke(token, customerUser.getId() + 1);
+        refreshTokenUseCase.revoke(null, customerUser.getId());
+
+        // Then
+        verify(refreshTokenPersistencePort, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired refresh token")
+    void shouldRejectExpiredRefreshToken() {
+        // Given
+        RefreshTokenModel expired = new RefreshTokenModel();
+        expired.setId(11L);
+        expired.setExpiresAt(NOW);
+        when(refreshTokenPersistencePort.findByTokenHash(anyString())).thenReturn(expired);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenUseCase.refresh("expired-token"))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Refresh token expired");
+
+        verify(refreshTokenPersistencePort, never()).markUsed(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown refresh token")
+    void shouldRejectUnknownRefreshToken() {
+        // Given
+        when(refreshTokenPersistencePort.findByTokenHash(anyString())).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenUseCase.refresh("unknown-token"))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Invalid refresh token");
+    }
+
+    @Test
+    @DisplayName("Should reject refresh for an inactive user")
+    void shouldRejectRefreshForInactiveUser() {
+        // Given
+        String token = refreshTokenUseCase.issue(customerUser.getId());
+        RefreshTokenModel stored = captureStored();
+        stored.setId(12L);
+        customerUser.setActive(false);
+        when(refreshTokenPersistencePort.findByTokenHash(stored.getTokenHash())).thenReturn(stored);
+        when(refreshTokenPersistencePort.markUsed(12L)).thenReturn(true);
+        when(userPersistencePort.findById(customerUser.getId())).thenReturn(customerUser);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenUseCase.refresh(token))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("User is not active");
+
+        verify(refreshTokenPersistencePort).revokeFamily(stored.getFamilyId());
+    }
+
+    private RefreshTokenModel captureStored() {
+        ArgumentCaptor<RefreshTokenModel> captor = ArgumentCaptor.forClass(RefreshTokenModel.class);
+        verify(refreshTokenPersistencePort).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.pragma.powerup.domain.usecase;
+
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationUseCase domain logic.
+ * Tests single-token and per-user revocation rules without external dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Domain: Token Revocation Use Case Tests")
+class TokenRevocationUseCaseTest {
+
+    @Mock
+    private ITokenRevocationPersistencePort tokenRevocationPersistencePort;
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    private TokenRevocationUseCase tokenRevocationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationUseCase = new TokenRevocationUseCase(tokenRevocationPersistencePort, userPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should persist a revoked token until its expiration")
+    void shouldRevokeToken() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        // When
+        tokenRevocationUseCase.revokeToken("jti-1", 1L, expiresAt);
+
+        // Then
+        verify(tokenRevocationPersistencePort).revokeToken("jti-1", 1L, expiresAt);
+    }
+
+    @Test
+    @DisplayName("Should reject revocation without token id")
+    void shouldRejectRevocationWithoutTokenId() {
+        // When & Then
+        assertThatThrownBy(() -> tokenRevocationUseCase.revokeToken(" ", 1L, Instant.now()))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Token id is required");
+
+        verify(tokenRevocationPersistencePort, never()).revokeToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should increase the token epoch of an existing user")
+    void shouldRevokeAllTokensOfExistingUser() {
+        // Given
+        when(userPersistencePort.findById(1L)).thenReturn(TestDataFactory.createValidAdminUser());
+
+        // When
+        tokenRevocationUseCase.revokeAllTokens(1L);
+
+        // Then
+        verify(tokenRevocationPersistencePort).incrementTokenEpoch(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject revoking all tokens of an unknown user")
+    void shouldRejectRevokeAllForUnknownUser() {
+        // Given
+        when(userPersistencePort.findById(99L)).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> tokenRevocationUseCase.revokeAllTokens(99L))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("User not found");
+
+        verify(tokenRevocationPersistencePort, never()).incrementTokenEpoch(any());
+    }
+}
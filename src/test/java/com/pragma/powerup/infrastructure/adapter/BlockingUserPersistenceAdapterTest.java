@@ -0,0 +1,98 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.exception.DuplicateUserException;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistenceAsyncPort;
+import com.pragma.powerup.infrastructure.out.r2dbc.BlockingUserPersistenceAdapter;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BlockingUserPersistenceAdapter infrastructure layer.
+ * Tests that async results are awaited, errors are unwrapped and publishers are drained in order.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: Blocking User Persistence Adapter Tests")
+class BlockingUserPersistenceAdapterTest {
+
+    @Mock
+    private IUserPersistenceAsyncPort delegate;
+
+    private BlockingUserPersistenceAdapter adapter;
+    private UserModel ownerUser;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BlockingUserPersistenceAdapter(delegate);
+        ownerUser = TestDataFactory.createValidOwnerUser();
+    }
+
+    @Test
+    @DisplayName("Should return the value the async port completes with")
+    void shouldAwaitCompletedStage() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(CompletableFuture.completedFuture(ownerUser));
+        when(delegate.findExistingEmails(List.of(ownerUser.getEmail())))
+                .thenReturn(CompletableFuture.supplyAsync(() -> Set.of(ownerUser.getEmail())));
+
+        // When
+        UserModel result = adapter.findById(ownerUser.getId());
+        Set<String> existing = adapter.findExistingEmails(List.of(ownerUser.getEmail()));
+
+        // Then
+        assertThat(result).isSameAs(ownerUser);
+        assertThat(existing).containsExactly(ownerUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should rethrow the domain error instead of the CompletionException wrapper")
+    void shouldUnwrapCompletionException() {
+        // Given
+        when(delegate.save(ownerUser)).thenReturn(CompletableFuture.failedFuture(
+                new DuplicateUserException(DuplicateUserException.Field.EMAIL)));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(ownerUser))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Email already registered");
+    }
+
+    @Test
+    @DisplayName("Should hand every published user to the consumer on the calling thread")
+    void shouldDrainPublisherIntoConsumer() {
+        // Given
+        UserModel other = TestDataFactory.createValidOwnerUser();
+        other.setId(ownerUser.getId() + 1);
+        when(delegate.streamAll())
+                .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.just(ownerUser, other)));
+        List<UserModel> received = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        adapter.streamAll(user -> {
+            received.add(user);
+            threads.add(Thread.currentThread());
+        });
+
+        // Then
+        assertThat(received).containsExactly(ownerUser, other);
+        assertThat(threads).containsOnly(caller);
+    }
+}
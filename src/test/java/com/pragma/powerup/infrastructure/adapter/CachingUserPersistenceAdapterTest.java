@@ -0,0 +1,215 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.cache.CachingUserPersistenceAdapter;
+import com.pragma.powerup.shared.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingUserPersistenceAdapter infrastructure layer.
+ * Tests read-through by id and email, write-through on save and defensive copies.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: Caching User Persistence Adapter Tests")
+class CachingUserPersistenceAdapterTest {
+
+    @Mock
+    private IUserPersistencePort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingUserPersistenceAdapter adapter;
+    private UserModel ownerUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachingUserPersistenceAdapter(
+                delegate, 100, Duration.ofMinutes(1), meterRegistry);
+        ownerUser = TestDataFactory.createValidOwnerUser();
+    }
+
+    @Test
+    @DisplayName("Should load a user by id once and serve later reads from the cache")
+    void shouldReadThroughById() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(ownerUser);
+
+        // When
+        adapter.findById(ownerUser.getId());
+        UserModel result = adapter.findById(ownerUser.getId());
+
+        // Then
+        assertThat(result.getEmail()).isEqualTo(ownerUser.getEmail());
+        verify(delegate, times(1)).findById(ownerUser.getId());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should serve lookups by id after a lookup by email")
+    void shouldShareEntriesBetweenIndexes() {
+        // Given
+        when(delegate.findByEmail(ownerUser.getEmail())).thenReturn(ownerUser);
+
+        // When
+        UserModel byEmail = adapter.findByEmail(ownerUser.getEmail());
+        UserModel byId = adapter.findById(ownerUser.getId());
+        UserModel byEmailAgain = adapter.findByEmail(ownerUser.getEmail());
+
+        // Then
+        assertThat(byEmail.getId()).isEqualTo(ownerUser.getId());
+        assertThat(byId.getEmail()).isEqualTo(ownerUser.getEmail());
+        assertThat(byEmailAgain.getId()).isEqualTo(ownerUser.getId());
+        verify(delegate, times(1)).findByEmail(ownerUser.getEmail());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users")
+    void shouldNotCacheMissingUsers() {
+        // Given
+        when(delegate.findById(99L)).thenReturn(null);
+
+        // When
+        adapter.findById(99L);
+        UserModel result = adapter.findById(99L);
+
+        // Then
+        assertThat(result).isNull();
+        verify(delegate, times(2)).findById(99L);
+    }
+
+    @Test
+    @DisplayName("Should replace both indexes when a user is saved")
+    void shouldRepopulateIndexesOnSave() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(ownerUser);
+        adapter.findById(ownerUser.getId());
+        UserModel updated = TestDataFactory.createValidOwnerUser();
+        updated.setEmail("new-owner@test.com");
+        when(delegate.save(updated)).thenReturn(updated);
+
+        // When
+        adapter.save(updated);
+
+        // Then
+        assertThat(adapter.findById(ownerUser.getId()).getEmail()).isEqualTo("new-owner@test.com");
+        assertThat(adapter.findByEmail("new-owner@test.com").getId()).isEqualTo(ownerUser.getId());
+        assertThat(adapter.existsByEmail("new-owner@test.com")).isTrue();
+        verify(delegate, times(1)).findById(ownerUser.getId());
+        verify(delegate, never()).findByEmail("new-owner@test.com");
+    }
+
+    @Test
+    @DisplayName("Should cache a saved user only once its transaction commits")
+    void shouldCacheSavedUserAfterCommit() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(ownerUser);
+        adapter.findById(ownerUser.getId());
+        UserModel updated = TestDataFactory.createValidOwnerUser();
+        updated.setEmail("new-owner@test.com");
+        when(delegate.save(updated)).thenReturn(updated);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            adapter.save(updated);
+            UserModel beforeCommit = adapter.findById(ownerUser.getId());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // Then - antes del commit se lee lo confirmado, después lo guardado sin ir a la fuente
+            assertThat(beforeCommit.getEmail()).isEqualTo(ownerUser.getEmail());
+            assertThat(adapter.findById(ownerUser.getId()).getEmail()).isEqualTo("new-owner@test.com");
+            verify(delegate, times(2)).findById(ownerUser.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not cache a saved user whose transaction rolls back")
+    void shouldNotCacheSavedUserOnRollback() {
+        // Given
+        when(delegate.save(ownerUser)).thenReturn(ownerUser);
+        when(delegate.findById(ownerUser.getId())).thenReturn(null);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            adapter.save(ownerUser);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(adapter.findById(ownerUser.getId())).isNull();
+            assertThat(adapter.existsByEmail(ownerUser.getEmail())).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return copies so callers cannot corrupt cached users")
+    void shouldReturnDefensiveCopies() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(ownerUser);
+        UserModel first = adapter.findById(ownerUser.getId());
+
+        // When
+        first.setActive(false);
+        ownerUser.setActive(false);
+
+        // Then
+        assertThat(adapter.findById(ownerUser.getId()).getActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evict a user whose password was updated")
+    void shouldEvictOnPasswordUpdate() {
+        // Given
+        when(delegate.findById(ownerUser.getId())).thenReturn(ownerUser);
+        adapter.findById(ownerUser.getId());
+        when(delegate.updatePassword(ownerUser.getId(), "old", "new")).thenReturn(true);
+
+        // When
+        adapter.updatePassword(ownerUser.getId(), "old", "new");
+        adapter.findById(ownerUser.getId());
+
+        // Then
+        verify(delegate, times(2)).findById(ownerUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer the employee check from a cached user or delegate to the query")
+    void shouldCheckEmployeeFromCacheOrDelegate() {
+        // Given
+        UserModel employee = TestDataFactory.createValidEmployeeUser();
+        when(delegate.findById(employee.getId())).thenReturn(employee);
+        adapter.findById(employee.getId());
+        when(delegate.existsEmployeeOfRestaurant(99L, 1L)).thenReturn(false);
+
+        // When
+        boolean cached =
+                adapter.existsEmployeeOfRestaurant(employee.getId(), employee.getRestaurantId());
+        boolean missing = adapter.existsEmployeeOfRestaurant(99L, 1L);
+
+        // Then
+        assertThat(cached).isTrue();
+        assertThat(missing).isFalse();
+        verify(delegate, never())
+                .existsEmployeeOfRestaurant(employee.getId(), employee.getRestaurantId());
+    }
+}
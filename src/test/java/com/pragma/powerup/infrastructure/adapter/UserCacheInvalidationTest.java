@@ -0,0 +1,117 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.cache.CachingUserPersistenceAdapter;
+import com.pragma.powerup.infrastructure.out.cache.InJvmUserInvalidationTransport;
+import com.pragma.powerup.infrastructure.out.cache.UserInvalidation;
+import com.pragma.powerup.shared.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for cross-node user cache invalidation.
+ * Two cache decorators share one in-JVM transport and one delegate, simulating two replicas
+ * in front of the same database.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: User Cache Invalidation Tests")
+class UserCacheInvalidationTest {
+
+    @Mock
+    private IUserPersistencePort database;
+
+    private CachingUserPersistenceAdapter nodeA;
+    private CachingUserPersistenceAdapter nodeB;
+    private UserModel ownerUser;
+
+    @BeforeEach
+    void setUp() {
+        InJvmUserInvalidationTransport transport = new InJvmUserInvalidationTransport();
+        nodeA = new CachingUserPersistenceAdapter(
+                database, 100, Duration.ofMinutes(1), new SimpleMeterRegistry(), transport, "node-a");
+        nodeB = new CachingUserPersistenceAdapter(
+                database, 100, Duration.ofMinutes(1), new SimpleMeterRegistry(), transport, "node-b");
+        ownerUser = TestDataFactory.createValidOwnerUser();
+    }
+
+    @Test
+    @DisplayName("Should evict a user on other nodes when it is saved")
+    void shouldEvictOnOtherNodesAfterSave() {
+        // Given
+        when(database.findById(ownerUser.getId())).thenReturn(ownerUser);
+        assertThat(nodeA.findById(ownerUser.getId()).getActive()).isTrue();
+        UserModel deactivated = TestDataFactory.createValidOwnerUser();
+        deactivated.setActive(false);
+        when(database.save(deactivated)).thenReturn(deactivated);
+
+        // When
+        nodeB.save(deactivated);
+        when(database.findById(ownerUser.getId())).thenReturn(deactivated);
+
+        // Then
+        assertThat(nodeA.findById(ownerUser.getId()).getActive()).isFalse();
+        verify(database, times(2)).findById(ownerUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should drop a stale email index on other nodes after an email change")
+    void shouldNotServeOldEmailAfterChange() {
+        // Given
+        when(database.findByEmail("owner@test.com")).thenReturn(ownerUser);
+        nodeA.findByEmail("owner@test.com");
+        UserModel renamed = TestDataFactory.createValidOwnerUser();
+        renamed.setEmail("renamed@test.com");
+        renamed.setRole(RoleEnum.EMPLOYEE);
+        when(database.save(renamed)).thenReturn(renamed);
+
+        // When
+        nodeB.save(renamed);
+        when(database.findById(ownerUser.getId())).thenReturn(renamed);
+        when(database.findByEmail("owner@test.com")).thenReturn(null);
+
+        // Then
+        assertThat(nodeA.findByEmail("owner@test.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the writer's own cache warm")
+    void shouldKeepWriterCacheWarm() {
+        // Given
+        when(database.save(ownerUser)).thenReturn(ownerUser);
+
+        // When
+        nodeA.save(ownerUser);
+        UserModel result = nodeA.findById(ownerUser.getId());
+
+        // Then
+        assertThat(result.getEmail()).isEqualTo(ownerUser.getEmail());
+        verify(database, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should round-trip invalidation payloads and reject malformed ones")
+    void shouldEncodeAndDecodePayload() {
+        // Given
+        UserInvalidation invalidation = new UserInvalidation("node-a", 2L, "owner@test.com", null);
+
+        // When
+        UserInvalidation decoded = UserInvalidation.decode(invalidation.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(invalidation);
+        assertThat(UserInvalidation.decode("garbage")).isNull();
+        assertThat(UserInvalidation.decode(null)).isNull();
+    }
+}
@@ -0,0 +1,116 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan tests for the email lookups against the H2 schema.
+ * The SQL Hibernate actually emits for each repository email query is captured and run through
+ * EXPLAIN, so a change in the JPQL or in the mapping that stops the lookup from using the unique
+ * index fails here. H2 plans are not PostgreSQL plans: this proves the query shape is indexable,
+ * not which plan PostgreSQL picks on real data.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.pragma.powerup.infrastructure.adapter.UserEmailIndexTest$RecordingInspector")
+@DisplayName("Infrastructure: User Email Index Tests")
+class UserEmailIndexTest {
+
+    private static final String EMAIL = "'owner@test.com'";
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should answer findByEmail from the unique email index")
+    void shouldUseUniqueEmailIndexForFindByEmail() {
+        // When
+        userRepository.findByEmail("owner@test.com");
+
+        // Then
+        assertThat(explainLastStatement()).contains("uk_users_email").doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("Should answer findCredentialsByEmail from the unique email index")
+    void shouldUseUniqueEmailIndexForFindCredentialsByEmail() {
+        // When
+        userRepository.findCredentialsByEmail("owner@test.com");
+
+        // Then
+        assertThat(explainLastStatement()).contains("uk_users_email").doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("Should answer existsByEmail from the unique email index")
+    void shouldUseUniqueEmailIndexForExistsByEmail() {
+        // When
+        userRepository.existsByEmail("owner@test.com");
+
+        // Then
+        assertThat(explainLastStatement()).contains("uk_users_email").doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("Should answer findExistingEmails from the unique email index")
+    void shouldUseUniqueEmailIndexForFindExistingEmails() {
+        // When
+        userRepository.findExistingEmails(List.of("owner@test.com", "employee@test.com"));
+
+        // Then
+        assertThat(explainLastStatement()).contains("uk_users_email").doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("Should fall back to a full scan when the column is wrapped in lower()")
+    void shouldScanWhenComparingLowerCasedColumn() {
+        // When - consulta escrita a mano: ningún repositorio la emite, solo fija el contraejemplo
+        String plan = explain("SELECT id FROM users WHERE lower(email) = " + EMAIL);
+
+        // Then - por esto se canonicaliza al guardar en lugar de al comparar
+        assertThat(plan).contains("tablescan");
+    }
+
+    private String explainLastStatement() {
+        assertThat(RecordingInspector.STATEMENTS).isNotEmpty();
+        String sql = RecordingInspector.STATEMENTS.get(RecordingInspector.STATEMENTS.size() - 1);
+        // Los parámetros se sustituyen por literales: el límite por 1 y el resto por el email
+        String literal = sql.replaceAll("(?i)(fetch first|limit) \\?", "$1 1").replace("?", EMAIL);
+        return explain(literal);
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class).toLowerCase(Locale.ROOT);
+    }
+
+    /** Records every SQL statement Hibernate prepares; instantiated by Hibernate by class name. */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
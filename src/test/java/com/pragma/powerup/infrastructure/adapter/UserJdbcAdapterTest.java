@@ -0,0 +1,28 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.jdbc.UserJdbcAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for UserJdbcAdapter infrastructure layer against the H2 schema.
+ * Runs the shared UserPersistenceContractTest.
+ */
+@DisplayName("Infrastructure: User JDBC Adapter Tests")
+class UserJdbcAdapterTest extends UserPersistenceContractTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    protected IUserPersistencePort createAdapter() {
+        return new UserJdbcAdapter(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+}
@@ -1,21 +1,28 @@
 package com.pragma.powerup.infrastructure.adapter;
 
+import com.pragma.powerup.domain.exception.DuplicateUserException;
+import com.pragma.powerup.domain.model.RoleEnum;
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
 import com.pragma.powerup.infrastructure.out.jpa.entity.UserEntity;
 import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserCredentialsProjection;
 import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
 import com.pragma.powerup.shared.TestDataFactory;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -130,7 +137,7 @@ class UserJpaAdapterTest {
     void shouldSaveUserSuccessfully() {
         // Given
         when(userEntityMapper.toEntity(testUserModel)).thenReturn(testUserEntity);
-        when(userRepository.save(testUserEntity)).thenReturn(testUserEntity);
+        when(userRepository.saveAndFlush(testUserEntity)).thenReturn(testUserEntity);
         when(userEntityMapper.toDomain(testUserEntity)).thenReturn(testUserModel);
 
         // When
@@ -142,7 +149,7 @@ class UserJpaAdapterTest {
                 .isEqualTo(testUserModel);
 
         verify(userEntityMapper).toEntity(testUserModel);
-        verify(userRepository).save(testUserEntity);
+        verify(userRepository).saveAndFlush(testUserEntity);
         verify(userEntityMapper).toDomain(testUserEntity);
     }
 
@@ -183,6 +190,31 @@ class UserJpaAdapterTest {
         verifyNoInteractions(userEntityMapper);
     }
 
+    @Test
+    @DisplayName("Should load login credentials from the projection without mapping a full entity")
+    void shouldFindCredentialsByEmail() {
+        // Given
+        IUserCredentialsProjection row = mock(IUserCredentialsProjection.class);
+        when(row.getId()).thenReturn(2L);
+        when(row.getEmail()).thenReturn("owner@test.com");
+        when(row.getPassword()).thenReturn("$2a$10$encodedPassword");
+        when(row.getRole()).thenReturn("OWNER");
+        when(row.getActive()).thenReturn(true);
+        when(userRepository.findCredentialsByEmail("owner@test.com")).thenReturn(Optional.of(row));
+
+        // When
+        UserModel result = userJpaAdapter.findCredentialsByEmail("owner@test.com");
+
+        // Then
+        assertThat(result.getId()).isEqualTo(2L);
+        assertThat(result.getPassword()).isEqualTo("$2a$10$encodedPassword");
+        assertThat(result.getRole()).isEqualTo(RoleEnum.OWNER);
+        assertThat(result.getActive()).isTrue();
+        assertThat(result.getFirstName()).isNull();
+        verify(userRepository, never()).findByEmail(any());
+        verifyNoInteractions(userEntityMapper);
+    }
+
     @Test
     @DisplayName("Should find user by ID successfully")
     void shouldFindUserByIdSuccessfully() {
@@ -231,7 +263,7 @@ class UserJpaAdapterTest {
         UserModel resultModel = TestDataFactory.createValidCustomerUser();
 
         when(userEntityMapper.toEntity(inputModel)).thenReturn(mappedEntity);
-        when(userRepository.save(mappedEntity)).thenReturn(savedEntity);
+        when(userRepository.saveAndFlush(mappedEntity)).thenReturn(savedEntity);
         when(userEntityMapper.toDomain(savedEntity)).thenReturn(resultModel);
 
         // When
@@ -242,7 +274,7 @@ class UserJpaAdapterTest {
 
         // Verify mapping sequence
         verify(userEntityMapper).toEntity(inputModel); // Model -> Entity
-        verify(userRepository).save(mappedEntity); // Save entity
+        verify(userRepository).saveAndFlush(mappedEntity); // Save entity
         verify(userEntityMapper).toDomain(savedEntity); // Entity -> Model
     }
 
@@ -251,7 +283,7 @@ class UserJpaAdapterTest {
     void shouldEnsureNoDataTransformationInAdapter() {
         // Given
         when(userEntityMapper.toEntity(any(UserModel.class))).thenReturn(testUserEntity);
-        when(userRepository.save(any(UserEntity.class))).thenReturn(testUserEntity);
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(testUserEntity);
         when(userEntityMapper.toDomain(any(UserEntity.class))).thenReturn(testUserModel);
 
         // When
@@ -259,10 +291,54 @@ class UserJpaAdapterTest {
 
         // Then - Verify adapter delegates all operations without transformation
         verify(userEntityMapper).toEntity(testUserModel); // Exact model passed to mapper
-        verify(userRepository).save(testUserEntity); // Exact entity passed to repository
+        verify(userRepository).saveAndFlush(testUserEntity); // Exact entity passed to repository
         verify(userEntityMapper).toDomain(testUserEntity); // Exact entity passed to mapper
     }
 
+    @Test
+    @DisplayName("Should translate email unique violation to DuplicateUserException")
+    void shouldTranslateEmailUniqueViolation() {
+        // Given
+        when(userEntityMapper.toEntity(testUserModel)).thenReturn(testUserEntity);
+        when(userRepository.saveAndFlush(testUserEntity)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("duplicate key", null, "uk_users_email")));
+
+        // When & Then
+        assertThatThrownBy(() -> userJpaAdapter.save(testUserModel))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Email already registered");
+        verify(userEntityMapper, never()).toDomain(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should translate document violation from driver message when constraint name is missing")
+    void shouldTranslateDocumentViolationFromMessage() {
+        // Given
+        when(userEntityMapper.toEntity(testUserModel)).thenReturn(testUserEntity);
+        when(userRepository.saveAndFlush(testUserEntity)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_USERS_DOCUMENT_INDEX_4\"")));
+
+        // When & Then
+        assertThatThrownBy(() -> userJpaAdapter.save(testUserModel))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessage("Document already registered");
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations unrelated to email or document")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException(
+                "could not execute statement", new SQLException("NULL not allowed for column \"ROLE\""));
+        when(userEntityMapper.toEntity(testUserModel)).thenReturn(testUserEntity);
+        when(userRepository.saveAndFlush(testUserEntity)).thenThrow(notNull);
+
+        // When & Then
+        assertThatThrownBy(() -> userJpaAdapter.save(testUserModel)).isSameAs(notNull);
+    }
+
     private UserEntity createCustomerEntity() {
         UserEntity entity = new UserEntity();
         entity.setFirstName("New");
@@ -0,0 +1,232 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.exception.DuplicateUserException;
+import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.model.UserFilterModel;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.jpa.adapter.UserJpaAdapter;
+import com.pragma.powerup.infrastructure.out.jpa.mapper.IUserEntityMapper;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contract shared by the hand-written SQL adapters, run against the H2 schema.
+ * Covers the same behaviour as UserJpaAdapterTest and checks that rows written by the adapter
+ * read back identically through the JPA adapter.
+ */
+@SpringBootTest
+abstract class UserPersistenceContractTest {
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IUserEntityMapper userEntityMapper;
+
+    private IUserPersistencePort adapter;
+    private UserModel testUser;
+
+    /** The adapter under test, over the same H2 database as the Spring context. */
+    protected abstract IUserPersistencePort createAdapter();
+
+    @BeforeEach
+    void setUp() {
+        adapter = createAdapter();
+        testUser = TestDataFactory.createValidEmployeeUser();
+        testUser.setId(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should check if email and document exist")
+    void shouldCheckIfEmailAndDocumentExist() {
+        // Given
+        adapter.save(testUser);
+
+        // When / Then
+        assertThat(adapter.existsByEmail(testUser.getEmail())).isTrue();
+        assertThat(adapter.existsByEmail("nobody@test.com")).isFalse();
+        assertThat(adapter.existsByDocument(testUser.getDocument())).isTrue();
+        assertThat(adapter.existsByDocument("99999999")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should save user and assign an id")
+    void shouldSaveUserSuccessfully() {
+        // When
+        UserModel result = adapter.save(testUser);
+
+        // Then
+        assertThat(result.getId()).isNotNull();
+        assertThat(userRepository.findById(result.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should insert a user whose id does not exist, like a JPA merge")
+    void shouldInsertUserWithUnknownId() {
+        // Given
+        testUser.setId(999_999L);
+
+        // When
+        UserModel result = adapter.save(testUser);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isNotEqualTo(999_999L);
+        assertThat(adapter.findById(result.getId()).getEmail()).isEqualTo(testUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should find user by email and by ID with every column mapped")
+    void shouldFindUserByEmailAndId() {
+        // Given
+        Long id = adapter.save(testUser).getId();
+
+        // When
+        UserModel byEmail = adapter.findByEmail(testUser.getEmail());
+        UserModel byId = adapter.findById(id);
+
+        // Then
+        assertThat(byEmail).usingRecursiveComparison().isEqualTo(testUser);
+        assertThat(byId).usingRecursiveComparison().isEqualTo(testUser);
+    }
+
+    @Test
+    @DisplayName("Should return null when user not found by email or ID")
+    void shouldReturnNullWhenUserNotFound() {
+        // When / Then
+        assertThat(adapter.findByEmail("nobody@test.com")).isNull();
+        assertThat(adapter.findById(999L)).isNull();
+        assertThat(adapter.findCredentialsByEmail("nobody@test.com")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load only the login columns for credentials")
+    void shouldFindCredentialsByEmail() {
+        // Given
+        adapter.save(testUser);
+
+        // When
+        UserModel result = adapter.findCredentialsByEmail(testUser.getEmail());
+
+        // Then
+        assertThat(result.getId()).isEqualTo(testUser.getId());
+        assertThat(result.getPassword()).isEqualTo(testUser.getPassword());
+        assertThat(result.getRole()).isEqualTo(RoleEnum.EMPLOYEE);
+        assertThat(result.getActive()).isTrue();
+        assertThat(result.getFirstName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read back through JPA exactly what the adapter wrote")
+    void shouldMatchJpaAdapter() {
+        // Given
+        UserJpaAdapter jpaAdapter = new UserJpaAdapter(userRepository, userEntityMapper);
+        Long id = adapter.save(testUser).getId();
+
+        // When
+        UserModel fromJpa = jpaAdapter.findById(id);
+
+        // Then
+        assertThat(adapter.findById(id)).usingRecursiveComparison().isEqualTo(fromJpa);
+    }
+
+    @Test
+    @DisplayName("Should translate email unique violation to DuplicateUserException")
+    void shouldTranslateEmailUniqueViolation() {
+        // Given
+        adapter.save(testUser);
+        UserModel duplicate = TestDataFactory.createValidCustomerUser();
+        duplicate.setId(null);
+        duplicate.setEmail(testUser.getEmail());
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(duplicate))
+                .isInstanceOf(DuplicateUserException.class)
+                .extracting("field").isEqualTo(DuplicateUserException.Field.EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should translate document unique violation to DuplicateUserException")
+    void shouldTranslateDocumentUniqueViolation() {
+        // Given
+        adapter.save(testUser);
+        UserModel duplicate = TestDataFactory.createValidCustomerUser();
+        duplicate.setId(null);
+        duplicate.setDocument(testUser.getDocument());
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(duplicate))
+                .isInstanceOf(DuplicateUserException.class)
+                .extracting("field").isEqualTo(DuplicateUserException.Field.DOCUMENT);
+    }
+
+    @Test
+    @DisplayName("Should batch insert, page by id and resolve employee restaurants")
+    void shouldSaveAllAndQueryInBulk() {
+        // Given
+        UserModel customer = TestDataFactory.createValidCustomerUser();
+        customer.setId(null);
+        List<UserModel> saved = adapter.saveAll(List.of(testUser, customer));
+        Long employeeId = saved.get(0).getId();
+        Long customerId = saved.get(1).getId();
+
+        // When
+        List<UserModel> page = adapter.findPage(new UserFilterModel(null, null, true), null, 10);
+        List<UserModel> byIds = new ArrayList<>();
+        adapter.findAllByIds(List.of(employeeId, customerId, 999L), byIds::add);
+        Map<Long, Long> restaurants = adapter.findRestaurantIdsOfEmployees(List.of(employeeId, customerId));
+
+        // Then
+        assertThat(customerId).isEqualTo(employeeId + 1);
+        assertThat(page).extracting(UserModel::getId).containsExactly(employeeId, customerId);
+        assertThat(byIds).hasSize(2);
+        assertThat(restaurants).containsExactly(Map.entry(employeeId, testUser.getRestaurantId()));
+        assertThat(adapter.existsEmployeeOfRestaurant(employeeId, testUser.getRestaurantId())).isTrue();
+        assertThat(adapter.existsEmployeeOfRestaurant(customerId, testUser.getRestaurantId())).isFalse();
+        assertThat(adapter.findExistingEmails(List.of(customer.getEmail(), "nobody@test.com")))
+                .isEqualTo(Set.of(customer.getEmail()));
+        assertThat(adapter.findExistingDocuments(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream every user without the password and replace a hash only if unchanged")
+    void shouldStreamAllAndUpdatePassword() {
+        // Given
+        Long id = adapter.save(testUser).getId();
+        List<UserModel> streamed = new ArrayList<>();
+
+        // When
+        adapter.streamAll(streamed::add);
+        boolean stale = adapter.updatePassword(id, "$2a$10$other", "$2a$12$new");
+        boolean updated = adapter.updatePassword(id, testUser.getPassword(), "$2a$12$new");
+
+        // Then
+        assertThat(streamed).singleElement().satisfies(user -> {
+            assertThat(user.getId()).isEqualTo(id);
+            assertThat(user.getPassword()).isNull();
+        });
+        assertThat(stale).isFalse();
+        assertThat(updated).isTrue();
+        assertThat(adapter.findCredentialsByEmail(testUser.getEmail()).getPassword()).isEqualTo("$2a$12$new");
+    }
+}
@@ -0,0 +1,30 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.infrastructure.out.r2dbc.BlockingUserPersistenceAdapter;
+import com.pragma.powerup.infrastructure.out.r2dbc.UserR2dbcAdapter;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Integration tests for UserR2dbcAdapter infrastructure layer against the H2 schema.
+ * Runs the shared UserPersistenceContractTest through r2dbc-h2 on the in-memory database the
+ * Spring context created, via the blocking bridge.
+ */
+@DisplayName("Infrastructure: User R2DBC Adapter Tests")
+class UserR2dbcAdapterTest extends UserPersistenceContractTest {
+
+    // Misma base en memoria y mismas opciones que spring.datasource.url del application.yml de test
+    private static final String URL = "r2dbc:h2:mem:///powerup?options="
+            + "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Override
+    protected IUserPersistencePort createAdapter() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(URL).mutate()
+                .option(ConnectionFactoryOptions.USER, "sa")
+                .option(ConnectionFactoryOptions.PASSWORD, "")
+                .build();
+        return new BlockingUserPersistenceAdapter(new UserR2dbcAdapter(ConnectionFactories.get(options)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.pragma.powerup.infrastructure.adapter;
+
+import com.pragma.powerup.domain.api.IUserServicePort;
+import com.pragma.powerup.domain.exception.DuplicateUserException;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.infrastructure.out.jpa.repository.IUserRepository;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for customer registration against the H2 schema.
+ * Registration no longer checks before inserting, so the unique constraints alone must let exactly
+ * one of several simultaneous requests for the same email or document through.
+ */
+@SpringBootTest
+@DisplayName("Infrastructure: Concurrent User Registration Tests")
+class UserRegistrationConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private IUserServicePort userServicePort;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should register only one user when the same email arrives concurrently")
+    void shouldRegisterOnlyOneUserForConcurrentSameEmail() throws Exception {
+        // Given - mismo email, documentos distintos
+        IntFunction<UserModel> request = i -> customer("race@test.com", "7000000" + i);
+
+        // When
+        List<Object> outcomes = registerConcurrently(request);
+
+        // Then
+        assertThat(outcomes).filteredOn(UserModel.class::isInstance).hasSize(1);
+        assertThat(outcomes).filteredOn(DuplicateUserException.class::isInstance)
+                .hasSize(THREADS - 1)
+                .allSatisfy(e -> assertThat(((DuplicateUserException) e).getField())
+                        .isEqualTo(DuplicateUserException.Field.EMAIL));
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should register only one user when the same document arrives concurrently")
+    void shouldRegisterOnlyOneUserForConcurrentSameDocument() throws Exception {
+        // Given - mismo documento, emails distintos
+        IntFunction<UserModel> request = i -> customer("race" + i + "@test.com", "71234567");
+
+        // When
+        List<Object> outcomes = registerConcurrently(request);
+
+        // Then
+        assertThat(outcomes).filteredOn(UserModel.class::isInstance).hasSize(1);
+        assertThat(outcomes).filteredOn(DuplicateUserException.class::isInstance)
+                .hasSize(THREADS - 1)
+                .allSatisfy(e -> assertThat(((DuplicateUserException) e).getField())
+                        .isEqualTo(DuplicateUserException.Field.DOCUMENT));
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private List<Object> registerConcurrently(IntFunction<UserModel> request)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                UserModel user = request.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return userServicePort.createCustomer(user);
+                    } catch (DuplicateUserException e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserModel customer(String email, String document) {
+        UserModel user = TestDataFactory.createValidCustomerRequestModel();
+        user.setEmail(email);
+        user.setDocument(document);
+        return user;
+    }
+}
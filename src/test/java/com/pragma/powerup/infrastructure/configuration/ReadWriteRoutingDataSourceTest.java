@@ -0,0 +1,125 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource against two in-memory H2 databases.
+ * Each database answers with its own name, so every test can see where a statement ran.
+ */
+@DisplayName("Infrastructure: Read/Write Routing DataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                node("primary"),
+                node("replica"),
+                tracker,
+                currentUser::get);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Should run read-only transactions on the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // When
+        String node = readOnly.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should run read-write transactions and non-transactional statements on the primary")
+    void shouldRouteWritesToPrimary() {
+        // When & Then
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary right after that user's write committed")
+    void shouldReadYourWrites() {
+        // Given - el usuario 7 confirma una escritura
+        currentUser.set(7L);
+        readWrite.executeWithoutResult(status -> tracker.recordWriteAfterCommit(List.of(7L)));
+
+        // When
+        String writerReads = readOnly.execute(status -> currentNode());
+        currentUser.set(8L);
+        String otherUserReads = readOnly.execute(status -> currentNode());
+
+        // Then
+        assertThat(writerReads).isEqualTo("primary");
+        assertThat(otherUserReads).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should not pin a caller whose read-write transaction wrote no user or rolled back")
+    void shouldNotPinCallerWithoutCommittedWrite() {
+        // Given - un login (lectura en transacción de escritura) y una escritura deshecha
+        currentUser.set(7L);
+        readWrite.executeWithoutResult(status -> currentNode());
+        readWrite.executeWithoutResult(status -> {
+            tracker.recordWriteAfterCommit(List.of(7L));
+            status.setRollbackOnly();
+        });
+
+        // When
+        String node = readOnly.execute(status -> currentNode());
+
+        // Then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should run a read-only transaction on the primary when asked to")
+    void shouldHonourPrimaryRequest() {
+        // When
+        String node = readOnly.execute(status -> ReadWriteRoutingDataSource.onPrimary(this::currentNode));
+
+        // Then
+        assertThat(node).isEqualTo("primary");
+        assertThat(ReadWriteRoutingDataSource.isPrimaryRequested()).isFalse();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
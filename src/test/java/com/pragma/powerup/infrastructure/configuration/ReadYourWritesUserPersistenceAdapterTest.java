@@ -0,0 +1,101 @@
+package com.pragma.powerup.infrastructure.configuration;
+
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReadYourWritesUserPersistenceAdapter infrastructure component.
+ * Tests that committed writes pin the written users and their caller, and that reads of those
+ * users ask for the primary.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: Read Your Writes User Persistence Adapter Tests")
+class ReadYourWritesUserPersistenceAdapterTest {
+
+    @Mock
+    private IUserPersistencePort delegate;
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private ReadYourWritesTracker tracker;
+    private ReadYourWritesUserPersistenceAdapter adapter;
+    private UserModel ownerUser;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+        adapter = new ReadYourWritesUserPersistenceAdapter(delegate, tracker, currentUser::get);
+        ownerUser = TestDataFactory.createValidOwnerUser();
+    }
+
+    @Test
+    @DisplayName("Should pin the written user and its caller only once the transaction commits")
+    void shouldRecordWrittenUserAndCallerAfterCommit() {
+        // Given - un administrador crea un propietario
+        currentUser.set(1L);
+        when(delegate.save(ownerUser)).thenReturn(ownerUser);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            adapter.save(ownerUser);
+            boolean pinnedBeforeCommit = tracker.mustReadFromPrimary(ownerUser.getId());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertThat(pinnedBeforeCommit).isFalse();
+            assertThat(tracker.mustReadFromPrimary(ownerUser.getId())).isTrue();
+            assertThat(tracker.mustReadFromPrimary(1L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should pin an anonymous registration by the id of the new user")
+    void shouldRecordAnonymousRegistration() {
+        // Given
+        when(delegate.save(ownerUser)).thenReturn(ownerUser);
+
+        // When
+        adapter.save(ownerUser);
+
+        // Then
+        assertThat(tracker.mustReadFromPrimary(ownerUser.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read a recently written user from the primary")
+    void shouldReadRecentlyWrittenUserFromPrimary() {
+        // Given
+        tracker.recordWrite(ownerUser.getId());
+        AtomicBoolean onPrimary = new AtomicBoolean();
+        when(delegate.findById(ownerUser.getId())).thenAnswer(invocation -> {
+            onPrimary.set(ReadWriteRoutingDataSource.isPrimaryRequested());
+            return ownerUser;
+        });
+
+        // When
+        UserModel result = adapter.findById(ownerUser.getId());
+
+        // Then
+        assertThat(result).isEqualTo(ownerUser);
+        assertThat(onPrimary).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isPrimaryRequested()).isFalse();
+    }
+}
@@ -0,0 +1,116 @@
+package com.pragma.powerup.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pragma.powerup.application.dto.request.UserExportFormat;
+import com.pragma.powerup.application.dto.response.UserExportDto;
+import com.pragma.powerup.application.handler.IUserExportHandler;
+import com.pragma.powerup.infrastructure.input.rest.UserExportRestController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserExportRestController infrastructure layer.
+ * Tests NDJSON and CSV serialization, gzip negotiation and that no password is written.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: User Export REST Controller Tests")
+class UserExportRestControllerTest {
+
+    @Mock
+    private IUserExportHandler userExportHandler;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private UserExportRestController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new UserExportRestController(userExportHandler, objectMapper);
+        doAnswer(invocation -> {
+            Consumer<UserExportDto> sink = invocation.getArgument(0);
+            sink.accept(user(2L, "Restaurant", "owner@test.com"));
+            sink.accept(user(3L, "Ana, \"la jefa\"", "employee@test.com"));
+            return null;
+        }).when(userExportHandler).exportUsers(any());
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per user without password")
+    void shouldExportNdjson() throws Exception {
+        // When
+        ResponseEntity<StreamingResponseBody> result = controller.exportUsers(UserExportFormat.NDJSON, null);
+        String body = new String(write(result), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(2L);
+        assertThat(first.get("birthDate").asText()).isEqualTo("1985-06-15");
+        assertThat(first.has("password")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write quoted CSV and gzip it when the client accepts gzip")
+    void shouldExportGzippedCsv() throws Exception {
+        // When
+        ResponseEntity<StreamingResponseBody> result = controller.exportUsers(UserExportFormat.CSV, "gzip, deflate");
+        byte[] compressed = write(result);
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Then
+        assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(body.split("\n")).containsExactly(
+                "id,firstName,lastName,document,phone,birthDate,email,role,active,restaurantId",
+                "2,Restaurant,Owner,87654321,+573009876543,1985-06-15,owner@test.com,OWNER,true,1",
+                "3,\"Ana, \"\"la jefa\"\"\",Owner,87654321,+573009876543,1985-06-15,employee@test.com,OWNER,true,1");
+    }
+
+    private byte[] write(ResponseEntity<StreamingResponseBody> result) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private UserExportDto user(Long id, String firstName, String email) {
+        UserExportDto user = new UserExportDto();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName("Owner");
+        user.setDocument("87654321");
+        user.setPhone("+573009876543");
+        user.setBirthDate(LocalDate.of(1985, 6, 15));
+        user.setEmail(email);
+        user.setRole("OWNER");
+        user.setActive(true);
+        user.setRestaurantId(1L);
+        return user;
+    }
+}
@@ -1,5 +1,8 @@
 package com.pragma.powerup.infrastructure.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.powerup.application.dto.request.UserBatchRequestDto;
 import com.pragma.powerup.application.dto.request.UserEmployeeRequestDto;
 import com.pragma.powerup.application.dto.request.UserRequestDto;
 import com.pragma.powerup.application.dto.response.UserResponseDto;
@@ -14,6 +17,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -33,7 +41,7 @@ class UserRestControllerTest {
 
     @BeforeEach
     void setUp() {
-        userRestController = new UserRestController(userHandler);
+        userRestController = new UserRestController(userHandler, new ObjectMapper());
     }
 
     @Test
@@ -239,4 +247,30 @@ class UserRestControllerTest {
         assertThat(userRestController.isEmployeeOfRestaurant(userId, restaurantId).getStatusCode())
                 .isEqualTo(HttpStatus.OK);
     }
+
+    @Test
+    @DisplayName("Should stream found users and report missing ids for a batch lookup")
+    void shouldStreamBatchLookup() throws Exception {
+        // Given
+        UserBatchRequestDto request = new UserBatchRequestDto();
+        request.setIds(List.of(2L, 99L));
+        UserResponseDto owner = TestDataFactory.createOwnerResponseDto();
+        when(userHandler.getUsersByIds(eq(request.getIds()), any())).thenAnswer(invocation -> {
+            Consumer<UserResponseDto> sink = invocation.getArgument(1);
+            sink.accept(owner);
+            return List.of(99L);
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> result = userRestController.getUsersByIds(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.getBody().writeTo(out);
+
+        // Then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode json = new ObjectMapper().readTree(out.toByteArray());
+        assertThat(json.get("users")).hasSize(1);
+        assertThat(json.get("users").get(0).get("email").asText()).isEqualTo(owner.getEmail());
+        assertThat(json.get("missingIds").get(0).asLong()).isEqualTo(99L);
+    }
 }
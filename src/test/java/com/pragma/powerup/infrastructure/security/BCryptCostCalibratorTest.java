@@ -0,0 +1,53 @@
+package com.pragma.powerup.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BCryptCostCalibrator and CostAwareBCryptPasswordEncoder.
+ * Tests cost extrapolation and detection of hashes that need to be re-encoded.
+ */
+@DisplayName("Infrastructure: BCrypt Cost Calibration Tests")
+class BCryptCostCalibratorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            // referencia (coste 8) en ms, presupuesto en ms, coste esperado
+            "4, 250, 13",
+            "4, 64, 12",
+            "4, 63, 11",
+            "20, 250, 11",
+            "1000, 10, 4"
+    })
+    @DisplayName("Should pick the highest cost that fits the latency budget")
+    void shouldPickHighestCostWithinBudget(long referenceMs, long budgetMs, int expectedCost) {
+        // When
+        int cost = BCryptCostCalibrator.costFor(Duration.ofMillis(budgetMs), Duration.ofMillis(referenceMs));
+
+        // Then
+        assertThat(cost).isEqualTo(expectedCost);
+    }
+
+    @Test
+    @DisplayName("Should flag hashes with a different cost or algorithm for upgrade")
+    void shouldFlagHashesWithDifferentCostOrAlgorithm() {
+        // Given
+        CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+        String current = encoder.encode("secret");
+        String cheaper = new CostAwareBCryptPasswordEncoder(4).encode("secret");
+        String pricier = new CostAwareBCryptPasswordEncoder(6).encode("secret");
+
+        // When & Then
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+        assertThat(encoder.upgradeEncoding(cheaper)).isTrue();
+        assertThat(encoder.upgradeEncoding(pricier)).isTrue();
+        assertThat(encoder.upgradeEncoding("{noop}secret")).isTrue();
+        assertThat(encoder.matches("secret", cheaper)).isTrue();
+    }
+}
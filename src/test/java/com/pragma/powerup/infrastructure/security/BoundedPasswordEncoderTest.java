@@ -0,0 +1,159 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.infrastructure.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BoundedPasswordEncoder infrastructure component.
+ * Tests delegation, fail-fast rejection when the queue is full and dropping of abandoned work.
+ */
+@DisplayName("Infrastructure: Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final AtomicInteger encodeCalls = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(
+                new BlockingEncoder(), 1, 1, Duration.ofMillis(300), 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Should delegate encode and matches to the wrapped encoder")
+    void shouldDelegateToWrappedEncoder() {
+        // Given
+        release.countDown();
+
+        // When
+        String encoded = encoder.encode("secret");
+
+        // Then
+        assertThat(encoded).isEqualTo("hashed:secret");
+        assertThat(encoder.matches("secret", encoded)).isTrue();
+        assertThat(meterRegistry.get("password.hashing.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hash on the calling thread, bypassing a saturated pool")
+    void shouldHashOnCallingThreadWhenPoolIsFull() throws Exception {
+        // Given - one hash running and one queued
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitForQueueDepth(1);
+
+        // When - the single worker is busy, yet the direct hash starts right away
+        CompletableFuture<String> direct =
+                CompletableFuture.supplyAsync(() -> encoder.onCallingThread().encode("import"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (encodeCalls.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        int startedBeforeRelease = encodeCalls.get();
+        release.countDown();
+
+        // Then
+        assertThat(startedBeforeRelease).isEqualTo(2);
+        assertThat(direct.get(1, TimeUnit.SECONDS)).isEqualTo("hashed:import");
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue-full").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail fast with retry hint when the queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given - one hash running and one queued
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitForQueueDepth(1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(2L);
+        assertThat(meterRegistry.get("password.hashing.rejected").tag("reason", "queue-full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop queued work once its caller stopped waiting")
+    void shouldDropAbandonedWork() throws Exception {
+        // Given
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When - queued call times out while the worker is busy
+        assertThatThrownBy(() -> encoder.encode("abandoned"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .hasMessage("Password hashing timed out");
+        release.countDown();
+        waitForQueueDepth(0);
+
+        // Then - the abandoned hash never runs
+        assertThat(encoder.encode("next")).isEqualTo("hashed:next");
+        assertThat(encodeCalls.get()).isEqualTo(2);
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (encoder.queueDepth() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.queueDepth()).isEqualTo(expected);
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence raw) {
+            encodeCalls.incrementAndGet();
+            started.countDown();
+            // Como BCrypt, no atiende interrupciones: el hilo queda ocupado hasta terminar
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            return encoded.equals("hashed:" + raw);
+        }
+    }
+}
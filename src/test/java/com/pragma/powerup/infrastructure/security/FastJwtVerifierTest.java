@@ -0,0 +1,121 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for FastJwtVerifier.
+ * Checks that the fast path agrees with jjwt on the tokens we mint and defers everything else.
+ */
+@DisplayName("Infrastructure: Fast JWT Verifier Tests")
+class FastJwtVerifierTest {
+
+    private JwtKeyRing keyRing;
+    private JwtService jwtService;
+    private FastJwtVerifier fastJwtVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyRing = new JwtKeyRing("test-secret-key-for-jwt-testing-must-be-long-enough-for-hmac-sha", "k1");
+        jwtService = new JwtService(
+                keyRing, new TokenRevocationRegistry(mock(ITokenRevocationPersistencePort.class), 1000));
+        var expiration = JwtService.class.getDeclaredField("jwtExpiration");
+        expiration.setAccessible(true);
+        expiration.set(jwtService, 3600000L);
+        fastJwtVerifier = new FastJwtVerifier(keyRing, true);
+    }
+
+    @Test
+    @DisplayName("Should extract claims from tokens minted by JwtService")
+    void shouldExtractClaimsFromMintedTokens() {
+        // Given
+        UserModel employee = TestDataFactory.createValidEmployeeUser();
+        String token = jwtService.generateToken(employee);
+
+        // When
+        JwtPrincipal principal = fastJwtVerifier.tryVerify(token);
+
+        // Then
+        assertThat(principal).isNotNull();
+        assertThat(principal.userId()).isEqualTo(employee.getId().toString());
+        assertThat(principal.email()).isEqualTo(employee.getEmail());
+        assertThat(principal.role()).isEqualTo("EMPLOYEE");
+        assertThat(principal.expiresAt()).isAfter(new Date().toInstant());
+        assertThat(principal.tokenId()).isNotBlank();
+        assertThat(principal.epoch()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a forged signature")
+    void shouldRejectForgedSignature() {
+        // Given
+        String token = jwtService.generateToken(TestDataFactory.createValidAdminUser());
+        int lastDot = token.lastIndexOf('.');
+        char replaced = token.charAt(lastDot + 1) == 'A' ? 'B' : 'A';
+        String forged = token.substring(0, lastDot + 1) + replaced + token.substring(lastDot + 2);
+
+        // When & Then
+        assertThatThrownBy(() -> fastJwtVerifier.tryVerify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        // Given
+        long past = System.currentTimeMillis() - 60000;
+        String expired = Jwts.builder()
+                .header().keyId("k1").and()
+                .subject("probe")
+                .claim("role", "ADMIN")
+                .expiration(new Date(past))
+                .signWith(keyRing.signingKey())
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> fastJwtVerifier.tryVerify(expired))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    @DisplayName("Should defer tokens with nested claims to jjwt")
+    void shouldDeferNestedClaims() {
+        // Given
+        String nested = Jwts.builder()
+                .header().keyId("k1").and()
+                .subject("probe")
+                .claim("profile", Map.of("name", "x"))
+                .signWith(keyRing.signingKey())
+                .compact();
+
+        // When & Then
+        assertThat(fastJwtVerifier.tryVerify(nested)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should defer tokens whose header does not match a known key")
+    void shouldDeferUnknownHeader() {
+        // Given
+        String withoutKid = Jwts.builder()
+                .subject("probe")
+                .signWith(keyRing.signingKey())
+                .compact();
+
+        // When & Then
+        assertThat(fastJwtVerifier.tryVerify(withoutKid)).isNull();
+        assertThat(fastJwtVerifier.tryVerify("not-a-jwt")).isNull();
+    }
+}
@@ -2,6 +2,7 @@ package com.pragma.powerup.infrastructure.security;
 
 import com.pragma.powerup.domain.model.UserModel;
 import com.pragma.powerup.domain.model.RoleEnum;
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
 import com.pragma.powerup.shared.TestDataFactory;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.crypto.SecretKey;
@@ -22,6 +24,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for JwtService infrastructure component.
@@ -31,6 +34,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DisplayName("Infrastructure: JWT Service Tests")
 class JwtServiceTest {
 
+    @Mock
+    private ITokenRevocationPersistencePort tokenRevocationPersistencePort;
+
     private JwtService jwtService;
 
     private final String testSecretKey = "test-secret-key-for-jwt-testing-must-be-long-enough-for-hmac-sha";
@@ -42,10 +48,11 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
+        jwtService = new JwtService(
+                new JwtKeyRing(testSecretKey, "test-kid"),
+                new TokenRevocationRegistry(tokenRevocationPersistencePort, 1000));
 
         // Set private fields using reflection for testing
-        setPrivateField(jwtService, "secretKey", testSecretKey);
         setPrivateField(jwtService, "jwtExpiration", testExpiration);
 
         adminUser = TestDataFactory.createValidAdminUser();
@@ -231,6 +238,43 @@ class JwtServiceTest {
         assertThat(claims.get("role", String.class)).isEqualTo("CUSTOMER");
     }
 
+    @Test
+    @DisplayName("Should stamp the signing key id in the token header")
+    void shouldStampSigningKeyIdInHeader() {
+        // When
+        String token = jwtService.generateToken(adminUser);
+
+        // Then
+        SecretKey key = Keys.hmacShaKeyFor(testSecretKey.getBytes(StandardCharsets.UTF_8));
+        String kid = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getHeader().getKeyId();
+        assertThat(kid).isEqualTo("test-kid");
+    }
+
+    @Test
+    @DisplayName("Should stamp a unique token id and the user's token epoch")
+    void shouldStampTokenIdAndEpoch() {
+        // When
+        Claims first = extractClaims(jwtService.generateToken(adminUser));
+        Claims second = extractClaims(jwtService.generateToken(adminUser));
+
+        // Then
+        assertThat(first.getId()).isNotBlank().isNotEqualTo(second.getId());
+        assertThat(first.get("epoch", Number.class).longValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stamp the epoch stored now, not a stale local one")
+    void shouldStampEpochFromStore() {
+        // Given - otro nodo revocó todas las sesiones del usuario
+        when(tokenRevocationPersistencePort.findTokenEpoch(adminUser.getId())).thenReturn(3L);
+
+        // When
+        Claims claims = extractClaims(jwtService.generateToken(adminUser));
+
+        // Then
+        assertThat(claims.get("epoch", Number.class).longValue()).isEqualTo(3L);
+    }
+
     @ParameterizedTest
     @MethodSource("userRoleTestCases")
     @DisplayName("Should generate correct role claim for different user types")
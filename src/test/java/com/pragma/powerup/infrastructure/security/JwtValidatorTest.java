@@ -0,0 +1,276 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for JwtValidator.
+ * Tests single-pass verification and the verified-token cache without Spring context.
+ */
+@DisplayName("Infrastructure: JWT Validator Tests")
+class JwtValidatorTest {
+
+    private final String testSecretKey = "test-secret-key-for-jwt-testing-must-be-long-enough-for-hmac-sha";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtKeyRing keyRing;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtValidator jwtValidator;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        keyRing = new JwtKeyRing(testSecretKey, "k1");
+        verifiedTokenCache = new VerifiedTokenCache(true, 1000, meterRegistry);
+        jwtValidator = new JwtValidator(keyRing, verifiedTokenCache, new FastJwtVerifier(keyRing, false));
+
+        jwtService = new JwtService(
+                keyRing, new TokenRevocationRegistry(mock(ITokenRevocationPersistencePort.class), 1000));
+        setPrivateField(jwtService, "jwtExpiration", 3600000L);
+    }
+
+    @Test
+    @DisplayName("Should return typed principal from a valid token")
+    void shouldReturnTypedPrincipalFromValidToken() {
+        // Given
+        UserModel owner = TestDataFactory.createValidOwnerUser();
+        String token = jwtService.generateToken(owner);
+
+        // When
+        JwtPrincipal principal = jwtValidator.verify(token);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo(owner.getId().toString());
+        assertThat(principal.email()).isEqualTo(owner.getEmail());
+        assertThat(principal.role()).isEqualTo("OWNER");
+        assertThat(principal.expiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated verifications from cache")
+    void shouldServeRepeatedVerificationsFromCache() {
+        // Given
+        String token = jwtService.generateToken(TestDataFactory.createValidCustomerUser());
+
+        // When
+        JwtPrincipal first = jwtValidator.verify(token);
+        JwtPrincipal second = jwtValidator.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered token and not cache it")
+    void shouldRejectTamperedTokenAndNotCacheIt() {
+        // Given
+        String token = jwtService.generateToken(TestDataFactory.createValidAdminUser());
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // When & Then
+        assertThatThrownBy(() -> jwtValidator.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtValidator.isValid(tampered)).isFalse();
+        assertThat(verifiedTokenCache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void shouldRejectExpiredToken() {
+        // Given
+        long past = System.currentTimeMillis() - 60000;
+        String expired = Jwts.builder()
+                .claim("userId", 1L)
+                .claim("role", "ADMIN")
+                .subject("admin@test.com")
+                .issuedAt(new Date(past - 60000))
+                .expiration(new Date(past))
+                .signWith(Keys.hmacShaKeyFor(testSecretKey.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // When & Then
+        assertThat(jwtValidator.isValid(expired)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should verify tokens signed with a previous key after rotation")
+    void shouldVerifyTokensSignedWithPreviousKeyAfterRotation() {
+        // Given
+        String oldToken = jwtService.generateToken(TestDataFactory.createValidOwnerUser());
+        keyRing.rotate("k2", "second-secret-key-for-jwt-testing-must-be-long-enough-for-hmac");
+        String newToken = jwtService.generateToken(TestDataFactory.createValidOwnerUser());
+
+        // When & Then
+        assertThat(jwtValidator.isValid(oldToken)).isTrue();
+        assertThat(jwtValidator.isValid(newToken)).isTrue();
+        assertThat(newToken).isNotEqualTo(oldToken);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens whose key was retired")
+    void shouldRejectTokensWhoseKeyWasRetired() {
+        // Given
+        String oldToken = jwtService.generateToken(TestDataFactory.createValidOwnerUser());
+        keyRing.rotate("k2", "second-secret-key-for-jwt-testing-must-be-long-enough-for-hmac");
+
+        // When
+        keyRing.retire("k1");
+
+        // Then
+        assertThat(jwtValidator.isValid(oldToken)).isFalse();
+        assertThatThrownBy(() -> keyRing.retire("k2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should verify legacy tokens without kid using the original default key")
+    void shouldVerifyLegacyTokensWithoutKid() {
+        // Given
+        long now = System.currentTimeMillis();
+        String legacy = Jwts.builder()
+                .claim("userId", 7L)
+                .claim("role", "CUSTOMER")
+                .subject("legacy@test.com")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 60000))
+                .signWith(Keys.hmacShaKeyFor(testSecretKey.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // When
+        JwtPrincipal principal = jwtValidator.verify(legacy);
+
+        // Then
+        assertThat(principal.userId()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("Should pin tokens without kid to the original key after a rotation")
+    void shouldPinTokensWithoutKidToOriginalKey() {
+        // Given
+        String rotatedSecret = "rotated-secret-key-for-jwt-testing-must-be-long-enough-for-hmac";
+        keyRing.rotate("k2", rotatedSecret);
+        long now = System.currentTimeMillis();
+        String legacy = Jwts.builder()
+                .subject("legacy@test.com")
+                .claim("userId", 7L)
+                .claim("role", "CUSTOMER")
+                .expiration(new Date(now + 60000))
+                .signWith(Keys.hmacShaKeyFor(testSecretKey.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        String withoutKid = Jwts.builder()
+                .subject("forged@test.com")
+                .claim("userId", 8L)
+                .claim("role", "ADMIN")
+                .expiration(new Date(now + 60000))
+                .signWith(Keys.hmacShaKeyFor(rotatedSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // When & Then
+        assertThat(jwtValidator.verify(legacy).userId()).isEqualTo("7");
+        assertThat(jwtValidator.isValid(withoutKid)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ES256", "EdDSA"})
+    @DisplayName("Should verify asymmetric and HMAC tokens side by side during migration")
+    void shouldVerifyAsymmetricAndHmacTokensSideBySide(String algorithm) {
+        // Given
+        String hmacToken = jwtService.generateToken(TestDataFactory.createValidOwnerUser());
+        new AsymmetricSigningKeyLoader(keyRing, algorithm, "asym-1", "", "", localProfile()).load();
+        String asymmetricToken = jwtService.generateToken(TestDataFactory.createValidOwnerUser());
+
+        // When & Then
+        String header = new String(
+                Base64.getUrlDecoder().decode(asymmetricToken.substring(0, asymmetricToken.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        assertThat(header).contains("\"alg\":\"" + algorithm + "\"").contains("\"kid\":\"asym-1\"");
+        assertThat(jwtValidator.verify(asymmetricToken).role()).isEqualTo("OWNER");
+        assertThat(jwtValidator.verify(hmacToken).role()).isEqualTo("OWNER");
+    }
+
+    @Test
+    @DisplayName("Should publish only asymmetric public keys in the JWK set")
+    void shouldPublishOnlyAsymmetricPublicKeysInJwks() {
+        // Given
+        assertThat((List<?>) keyRing.jwks().get("keys")).isEmpty();
+
+        // When
+        new AsymmetricSigningKeyLoader(keyRing, "ES256", "es-1", "", "", localProfile()).load();
+
+        // Then
+        List<?> keys = (List<?>) keyRing.jwks().get("keys");
+        assertThat(keys).hasSize(1);
+        Map<?, ?> jwk = (Map<?, ?>) keys.get(0);
+        assertThat(jwk.get("kid")).isEqualTo("es-1");
+        assertThat(jwk.get("kty")).isEqualTo("EC");
+        assertThat(jwk.containsKey("d")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse an ephemeral asymmetric key outside local/dev profiles")
+    void shouldRefuseEphemeralKeyOutsideLocalProfiles() {
+        // Given
+        AsymmetricSigningKeyLoader loader =
+                new AsymmetricSigningKeyLoader(keyRing, "ES256", "es-1", "", "", new MockEnvironment());
+
+        // When & Then
+        assertThatThrownBy(loader::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.asymmetric.private-key is required");
+        assertThat((List<?>) keyRing.jwks().get("keys")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep legacy extractors consistent with verify")
+    void shouldKeepLegacyExtractorsConsistentWithVerify() {
+        // Given
+        UserModel employee = TestDataFactory.createValidEmployeeUser();
+        String token = jwtService.generateToken(employee);
+
+        // When & Then
+        assertThat(jwtValidator.isValid(token)).isTrue();
+        assertThat(jwtValidator.extractUserId(token)).isEqualTo(employee.getId().toString());
+        assertThat(jwtValidator.extractEmail(token)).isEqualTo(employee.getEmail());
+        assertThat(jwtValidator.extractRole(token)).isEqualTo("EMPLOYEE");
+    }
+
+    private static MockEnvironment localProfile() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("local");
+        return environment;
+    }
+
+    private void setPrivateField(Object target, String fieldName, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set field " + fieldName, e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimitFilter and SketchTokenBucketLimiter.
+ * Tests per-IP and per-email limits, refill over time, contention on the last token and that the
+ * request body still reaches the controller, also through a ReadListener.
+ */
+@DisplayName("Infrastructure: Rate Limit Filter Tests")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(true, 1024, 4, 3, 60, 2, 60, 1, 60, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject login with 429 once the IP bucket is empty")
+    void shouldRejectLoginWhenIpBucketIsEmpty() throws Exception {
+        // Given - distinct emails so only the IP limit applies
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("10.0.0.1", "user" + i + "@test.com").getStatus()).isEqualTo(200);
+        }
+
+        // When
+        MockHttpServletResponse response = login("10.0.0.1", "other@test.com");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(login("10.0.0.2", "other@test.com").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("key", "ip").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should limit login attempts per email across different IPs")
+    void shouldLimitLoginPerEmail() throws Exception {
+        // Given
+        login("10.0.0.1", "Victim@Test.com");
+        login("10.0.0.2", "victim@test.com");
+
+        // When
+        MockHttpServletResponse response = login("10.0.0.3", "victim@test.com");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("key", "email").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should pass the full request body on to the next filter")
+    void shouldForwardRequestBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = post(RateLimitFilter.LOGIN_PATH, "10.0.0.9",
+                "{\"email\":\"a@test.com\",\"password\":\"secret\"}");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        String forwarded = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(forwarded).isEqualTo("{\"email\":\"a@test.com\",\"password\":\"secret\"}");
+    }
+
+    @Test
+    @DisplayName("Should reject a padded login body with 413 instead of skipping the email limit")
+    void shouldRejectOversizeLoginBody() throws Exception {
+        // Given - whitespace padding pushes the body past the inspected size
+        String padded = "{\"email\":\"victim@test.com\"," + " ".repeat(9 * 1024) + "\"password\":\"x\"}";
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post(RateLimitFilter.LOGIN_PATH, "10.0.0.7", padded), response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should serve the cached body to a ReadListener and report when it is finished")
+    void shouldServeCachedBodyAsynchronously() throws Exception {
+        // Given
+        byte[] body = "{\"email\":\"a@test.com\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new CachedBodyHttpServletRequest(
+                new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (input.isReady() && !input.isFinished()) {
+                    received.write(input.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        // Then
+        assertThat(received.toByteArray()).isEqualTo(body);
+        assertThat(input.isFinished()).isTrue();
+        assertThat(input.read()).isEqualTo(-1);
+        assertThat(allRead).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should limit customer registration per IP and ignore other endpoints")
+    void shouldLimitRegistrationOnly() throws Exception {
+        // Given
+        MockHttpServletResponse first = send(post(RateLimitFilter.REGISTRATION_PATH, "10.0.0.5", "{}"));
+
+        // When
+        MockHttpServletResponse second = send(post(RateLimitFilter.REGISTRATION_PATH, "10.0.0.5", "{}"));
+        MockHttpServletResponse other = send(post("/api/v1/users/owner", "10.0.0.5", "{}"));
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(other.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time")
+    void shouldRefillTokensOverTime() {
+        // Given - 2 tokens, 60 per minute = 1 per second
+        AtomicLong clock = new AtomicLong(1_000_000);
+        SketchTokenBucketLimiter limiter = new SketchTokenBucketLimiter(256, 4, 2, 60, clock::get);
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+
+        // When
+        long wait = limiter.tryAcquire("key");
+        clock.addAndGet(wait);
+
+        // Then
+        assertThat(wait).isBetween(1L, 1000L);
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should allow exactly the configured rate under constant polling")
+    void shouldAllowConfiguredRateUnderPolling() {
+        // Given - 1 token, 6 per minute = one every 10 s, polled every millisecond
+        AtomicLong clock = new AtomicLong(0);
+        SketchTokenBucketLimiter limiter = new SketchTokenBucketLimiter(256, 4, 1, 6, clock::get);
+        assertThat(limiter.tryAcquire("key")).isZero();
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 30_000; i++) {
+            clock.incrementAndGet();
+            if (limiter.tryAcquire("key") == 0) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should never hand the last token to two concurrent callers")
+    void shouldNotSpendSameTokenTwiceUnderContention() throws Exception {
+        // Given - 1 token y un reloj parado: ninguna recarga durante la prueba
+        int threads = 16;
+        SketchTokenBucketLimiter limiter = new SketchTokenBucketLimiter(256, 4, 1, 1, () -> 0L);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        int allowed = 0;
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire("key");
+                }));
+            }
+            start.countDown();
+            for (Future<Long> future : futures) {
+                if (future.get() == 0) {
+                    allowed++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(allowed).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse login(String ip, String email) throws Exception {
+        return send(post(RateLimitFilter.LOGIN_PATH, ip, "{\"email\":\"" + email + "\",\"password\":\"x\"}"));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest post(String path, String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,194 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.spi.ITokenRevocationPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TokenRevocationRegistry infrastructure component.
+ * Checks that the common path never reaches the store and that revocations survive a reload.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: Token Revocation Registry Tests")
+class TokenRevocationRegistryTest {
+
+    @Mock
+    private ITokenRevocationPersistencePort delegate;
+
+    private TokenRevocationRegistry registry;
+
+    private final Instant expiresAt = Instant.now().plusSeconds(3600);
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry(delegate, 1000);
+    }
+
+    @Test
+    @DisplayName("Should accept a non-revoked token without querying the store")
+    void shouldAcceptNonRevokedTokenWithoutStoreLookup() {
+        // Given
+        JwtPrincipal principal = principal("1", UUID.randomUUID().toString(), 0);
+
+        // When
+        boolean revoked = registry.isRevoked(principal);
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(delegate, never()).isTokenRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a token revoked through the registry")
+    void shouldRejectRevokedToken() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        when(delegate.isTokenRevoked(tokenId)).thenReturn(true);
+
+        // When
+        registry.revokeToken(tokenId, 1L, expiresAt);
+
+        // Then
+        verify(delegate).revokeToken(tokenId, 1L, expiresAt);
+        assertThat(registry.isRevoked(principal("1", tokenId, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens minted before the user's epoch was increased")
+    void shouldRejectTokensFromPreviousEpoch() {
+        // Given
+        when(delegate.incrementTokenEpoch(7L)).thenReturn(1L);
+
+        // When
+        registry.incrementTokenEpoch(7L);
+
+        // Then
+        assertThat(registry.currentEpoch(7L)).isEqualTo(1L);
+        assertThat(registry.isRevoked(principal("7", null, 0))).isTrue();
+        assertThat(registry.isRevoked(principal("7", null, 1))).isFalse();
+        assertThat(registry.isRevoked(principal("8", null, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should learn a newer epoch from a token minted on another node")
+    void shouldLearnNewerEpochFromToken() {
+        // When
+        boolean newer = registry.isRevoked(principal("5", null, 2));
+
+        // Then
+        assertThat(newer).isFalse();
+        assertThat(registry.currentEpoch(5L)).isEqualTo(2L);
+        assertThat(registry.isRevoked(principal("5", null, 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should restore revoked ids and epochs from the store on reload")
+    void shouldRestoreStateOnReload() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        when(delegate.findActiveRevokedTokenIds(any())).thenReturn(List.of(tokenId));
+        when(delegate.findTokenEpochsUpdatedSince(Instant.EPOCH)).thenReturn(Map.of(3L, 2L));
+        when(delegate.isTokenRevoked(tokenId)).thenReturn(true);
+
+        // When
+        registry.reload();
+
+        // Then
+        verify(delegate).deleteRevokedTokensExpiredBefore(any());
+        assertThat(registry.isRevoked(principal("1", tokenId, 0))).isTrue();
+        assertThat(registry.currentEpoch(3L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should only fetch epochs bumped since the previous reload")
+    void shouldReloadEpochsIncrementally() {
+        // Given
+        when(delegate.findActiveRevokedTokenIds(any())).thenReturn(List.of());
+        when(delegate.findTokenEpochsUpdatedSince(Instant.EPOCH)).thenReturn(Map.of(3L, 2L));
+        when(delegate.findTokenEpochsUpdatedSince(argThat(since -> since != null && since.isAfter(Instant.EPOCH))))
+                .thenReturn(Map.of(4L, 1L));
+        registry.reload();
+
+        // When
+        registry.reload();
+
+        // Then
+        verify(delegate).findTokenEpochsUpdatedSince(Instant.EPOCH);
+        assertThat(registry.currentEpoch(3L)).isEqualTo(2L);
+        assertThat(registry.currentEpoch(4L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should not track users whose epoch is still zero")
+    void shouldNotTrackZeroEpochs() {
+        // Given
+        when(delegate.findTokenEpoch(8L)).thenReturn(0L);
+
+        // When
+        long epoch = registry.findTokenEpoch(8L);
+
+        // Then
+        assertThat(epoch).isZero();
+        assertThat(registry.trackedEpochs()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep local revocations that the store did not return yet")
+    void shouldKeepLocalRevocationsAcrossReload() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        registry.revokeToken(tokenId, 1L, expiresAt);
+        when(delegate.findActiveRevokedTokenIds(any())).thenReturn(List.of());
+        when(delegate.findTokenEpochsUpdatedSince(Instant.EPOCH)).thenReturn(Map.of());
+        when(delegate.isTokenRevoked(tokenId)).thenReturn(true);
+
+        // When
+        registry.reload();
+
+        // Then
+        assertThat(registry.isRevoked(principal("1", tokenId, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate of the filter close to the target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("revoked-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(filter.mightContain("revoked-42")).isTrue();
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private JwtPrincipal principal(String userId, String tokenId, long epoch) {
+        return new JwtPrincipal(userId, "user@test.com", "ADMIN", expiresAt, tokenId, epoch);
+    }
+}
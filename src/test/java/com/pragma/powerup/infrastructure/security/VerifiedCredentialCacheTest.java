@@ -0,0 +1,116 @@
+package com.pragma.powerup.infrastructure.security;
+
+import com.pragma.powerup.domain.api.IAuthServicePort;
+import com.pragma.powerup.domain.exception.DomainException;
+import com.pragma.powerup.domain.model.UserModel;
+import com.pragma.powerup.domain.spi.IUserPersistencePort;
+import com.pragma.powerup.shared.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for VerifiedCredentialCache infrastructure component.
+ * Tests that repeated logins skip the delegate and that changed users are re-verified.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Infrastructure: Verified Credential Cache Tests")
+class VerifiedCredentialCacheTest {
+
+    @Mock
+    private IAuthServicePort delegate;
+
+    @Mock
+    private IUserPersistencePort userPersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedCredentialCache cache;
+    private UserModel customerUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedCredentialCache(delegate, userPersistencePort, Duration.ofSeconds(30), 100, meterRegistry);
+        customerUser = TestDataFactory.createValidCustomerUser();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated login from the cache")
+    void shouldServeRepeatedLoginFromCache() {
+        // Given
+        when(delegate.authenticate(customerUser.getEmail(), "secret")).thenReturn(customerUser);
+        when(userPersistencePort.findCredentialsByEmail(customerUser.getEmail())).thenReturn(customerUser);
+        cache.authenticate(customerUser.getEmail(), "secret");
+
+        // When
+        UserModel result = cache.authenticate(customerUser.getEmail(), "secret");
+
+        // Then
+        assertThat(result).isEqualTo(customerUser);
+        verify(delegate, times(1)).authenticate(customerUser.getEmail(), "secret");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedCredentialCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(VerifiedCredentialCache.CACHE_NAME + ".saved").functionCounter().count())
+                .isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Should not accept a different password from the cache")
+    void shouldNotAcceptDifferentPassword() {
+        // Given
+        when(delegate.authenticate(customerUser.getEmail(), "secret")).thenReturn(customerUser);
+        when(delegate.authenticate(customerUser.getEmail(), "wrong"))
+                .thenThrow(new DomainException("Invalid credentials"));
+        cache.authenticate(customerUser.getEmail(), "secret");
+
+        // When & Then
+        assertThatThrownBy(() -> cache.authenticate(customerUser.getEmail(), "wrong"))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Invalid credentials");
+    }
+
+    @Test
+    @DisplayName("Should re-verify when the stored password hash changed")
+    void shouldReverifyWhenPasswordHashChanged() {
+        // Given
+        when(delegate.authenticate(customerUser.getEmail(), "secret")).thenReturn(customerUser);
+        cache.authenticate(customerUser.getEmail(), "secret");
+        UserModel changed = TestDataFactory.createValidCustomerUser();
+        changed.setPassword("$2a$10$anotherHash");
+        when(userPersistencePort.findCredentialsByEmail(customerUser.getEmail())).thenReturn(changed);
+
+        // When
+        cache.authenticate(customerUser.getEmail(), "secret");
+
+        // Then
+        verify(delegate, times(2)).authenticate(customerUser.getEmail(), "secret");
+    }
+
+    @Test
+    @DisplayName("Should re-verify when the user was deactivated")
+    void shouldReverifyWhenUserDeactivated() {
+        // Given
+        when(delegate.authenticate(customerUser.getEmail(), "secret"))
+                .thenReturn(customerUser)
+                .thenThrow(new DomainException("User is not active"));
+        cache.authenticate(customerUser.getEmail(), "secret");
+        UserModel deactivated = TestDataFactory.createValidCustomerUser();
+        deactivated.setActive(false);
+        when(userPersistencePort.findCredentialsByEmail(customerUser.getEmail())).thenReturn(deactivated);
+
+        // When & Then
+        assertThatThrownBy(() -> cache.authenticate(customerUser.getEmail(), "secret"))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("User is not active");
+    }
+}